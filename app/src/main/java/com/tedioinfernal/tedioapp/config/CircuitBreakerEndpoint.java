@@ -0,0 +1,37 @@
+package com.tedioinfernal.tedioapp.config;
+
+import com.tedioinfernal.tedioapp.service.IntegrationCircuitBreaker;
+import com.tedioinfernal.tedioapp.service.IntegrationCircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Expõe no actuator (/actuator/circuitbreakers) o estado dos circuitos por integração
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+    private final IntegrationCircuitBreakerRegistry registry;
+
+    @ReadOperation
+    public Map<Long, Map<String, Object>> circuitBreakers() {
+        Map<Long, Map<String, Object>> result = new TreeMap<>();
+        for (IntegrationCircuitBreaker breaker : registry.getAll()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", breaker.getState());
+            details.put("failureRate", breaker.getFailureRate());
+            details.put("slowCallRate", breaker.getSlowCallRate());
+            details.put("availableConcurrentCalls", breaker.getAvailableConcurrentCalls());
+            result.put(breaker.getIntegrationId(), details);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.tedioinfernal.tedioapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled) da aplicação.
+ * O pool do agendador é dimensionado em spring.task.scheduling.pool.size (uma thread por tarefa).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
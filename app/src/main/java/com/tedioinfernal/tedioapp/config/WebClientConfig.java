@@ -1,8 +1,10 @@
 package com.tedioinfernal.tedioapp.config;
 
+import com.tedioinfernal.tedioapp.service.OutboundHttpMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
@@ -16,10 +18,11 @@ public class WebClientConfig {
 
     /**
      * Bean do WebClient.Builder para uso nas integrações
-     * Configurado com timeouts e pool de conexões
+     * Configurado com timeouts e pool de conexões.
+     * Os clients do Evolution não usam este builder diretamente: EvolutionWebClientRegistry clona e monta um WebClient por Evolution
      */
     @Bean
-    public WebClient.Builder webClientBuilder() {
+    public WebClient.Builder webClientBuilder(OutboundHttpMetrics outboundHttpMetrics) {
         
         // Configuração do HttpClient com timeouts
         HttpClient httpClient = HttpClient.create()
@@ -28,8 +31,30 @@ public class WebClientConfig {
         
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(metricsFilter(outboundHttpMetrics))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
                         .maxInMemorySize(16 * 1024 * 1024)); // 16MB buffer
     }
+
+    /**
+     * Registra latência, bytes e erros das chamadas ao Evolution.
+     * O host é usado como tag de integração; o path não entra nas tags pois contém o nome da instância.
+     */
+    private ExchangeFilterFunction metricsFilter(OutboundHttpMetrics metrics) {
+        return (request, next) -> {
+            long start = System.nanoTime();
+            long bytesOut = Math.max(request.headers().getContentLength(), 0);
+            String host = request.url().getHost();
+            String method = request.method().name();
+            return next.exchange(request)
+                    .doOnNext(response -> metrics.record(
+                            OutboundHttpMetrics.CLIENT_EVOLUTION, host, OutboundHttpMetrics.NONE, method,
+                            response.statusCode().value(), null, System.nanoTime() - start,
+                            bytesOut, Math.max(response.headers().contentLength().orElse(0L), 0)))
+                    .doOnError(error -> metrics.record(
+                            OutboundHttpMetrics.CLIENT_EVOLUTION, host, OutboundHttpMetrics.NONE, method,
+                            0, error, System.nanoTime() - start, bytesOut, 0));
+        };
+    }
 }
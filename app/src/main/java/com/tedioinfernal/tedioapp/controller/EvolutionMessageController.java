@@ -1,5 +1,7 @@
 package com.tedioinfernal.tedioapp.controller;
 
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastRequestDTO;
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastResponseDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionMessageRequestDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionMessageResponseDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionMediaMessageRequestDTO;
@@ -7,6 +9,7 @@ import com.tedioinfernal.tedioapp.dto.EvolutionAudioMessageRequestDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionStickerMessageRequestDTO;
 import com.tedioinfernal.tedioapp.entity.User;
 import com.tedioinfernal.tedioapp.security.UserContext;
+import com.tedioinfernal.tedioapp.service.EvolutionBroadcastService;
 import com.tedioinfernal.tedioapp.service.EvolutionMessageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/evolution/message")
@@ -22,16 +28,17 @@ import org.springframework.web.bind.annotation.*;
 public class EvolutionMessageController {
 
     private final EvolutionMessageService evolutionMessageService;
+    private final EvolutionBroadcastService evolutionBroadcastService;
 
     @PostMapping
     public ResponseEntity<EvolutionMessageResponseDTO> sendMessage(
             @Valid @RequestBody EvolutionMessageRequestDTO requestDTO) {
         
         User currentUser = UserContext.getCurrentUser();
-        log.info("POST /api/evolution/message - Sending message by user ID: {}", currentUser.getId());
+        log.info("POST /api/evolution/message - Queueing message by user ID: {}", currentUser.getId());
         
         EvolutionMessageResponseDTO response = evolutionMessageService.sendMessage(requestDTO);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     @PostMapping("/media")
@@ -39,10 +46,10 @@ public class EvolutionMessageController {
             @Valid @RequestBody EvolutionMediaMessageRequestDTO requestDTO) {
         
         User currentUser = UserContext.getCurrentUser();
-        log.info("POST /api/evolution/message/media - Sending media by user ID: {}", currentUser.getId());
+        log.info("POST /api/evolution/message/media - Queueing media by user ID: {}", currentUser.getId());
         
         EvolutionMessageResponseDTO response = evolutionMessageService.sendMedia(requestDTO);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     @PostMapping("/audio")
@@ -50,10 +57,10 @@ public class EvolutionMessageController {
             @Valid @RequestBody EvolutionAudioMessageRequestDTO requestDTO) {
         
         User currentUser = UserContext.getCurrentUser();
-        log.info("POST /api/evolution/message/audio - Sending audio by user ID: {}", currentUser.getId());
+        log.info("POST /api/evolution/message/audio - Queueing audio by user ID: {}", currentUser.getId());
         
         EvolutionMessageResponseDTO response = evolutionMessageService.sendAudio(requestDTO);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     @PostMapping("/sticker")
@@ -61,9 +68,40 @@ public class EvolutionMessageController {
             @Valid @RequestBody EvolutionStickerMessageRequestDTO requestDTO) {
         
         User currentUser = UserContext.getCurrentUser();
-        log.info("POST /api/evolution/message/sticker - Sending sticker by user ID: {}", currentUser.getId());
+        log.info("POST /api/evolution/message/sticker - Queueing sticker by user ID: {}", currentUser.getId());
         
         EvolutionMessageResponseDTO response = evolutionMessageService.sendSticker(requestDTO);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/broadcast")
+    public SseEmitter broadcast(@Valid @RequestBody EvolutionBroadcastRequestDTO requestDTO) {
+        
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/evolution/message/broadcast - Broadcasting to {} recipients by user ID: {}",
+                requestDTO.getRecipients().size(), currentUser.getId());
+        
+        return evolutionBroadcastService.broadcast(requestDTO);
+    }
+
+    @GetMapping("/broadcast/{broadcastId}")
+    public ResponseEntity<EvolutionBroadcastResponseDTO> getBroadcast(@PathVariable UUID broadcastId) {
+        
+        User currentUser = UserContext.getCurrentUser();
+        log.info("GET /api/evolution/message/broadcast/{} - Fetching broadcast status by user ID: {}",
+                broadcastId, currentUser.getId());
+        
+        EvolutionBroadcastResponseDTO response = evolutionBroadcastService.getBroadcast(broadcastId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EvolutionMessageResponseDTO> getMessage(@PathVariable Long id) {
+        
+        User currentUser = UserContext.getCurrentUser();
+        log.info("GET /api/evolution/message/{} - Fetching message status by user ID: {}", id, currentUser.getId());
+        
+        EvolutionMessageResponseDTO response = evolutionMessageService.getMessage(id);
+        return ResponseEntity.ok(response);
     }
 }
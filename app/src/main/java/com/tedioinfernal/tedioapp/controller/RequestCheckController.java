@@ -0,0 +1,77 @@
+package com.tedioinfernal.tedioapp.controller;
+
+import com.tedioinfernal.tedioapp.dto.RequestCheckRequestDTO;
+import com.tedioinfernal.tedioapp.dto.RequestCheckResponseDTO;
+import com.tedioinfernal.tedioapp.entity.User;
+import com.tedioinfernal.tedioapp.security.UserContext;
+import com.tedioinfernal.tedioapp.service.RequestCheckService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/request-check")
+@RequiredArgsConstructor
+@Slf4j
+public class RequestCheckController {
+
+    private final RequestCheckService requestCheckService;
+
+    @PostMapping
+    public ResponseEntity<RequestCheckResponseDTO> createRequestCheck(
+            @Valid @RequestBody RequestCheckRequestDTO requestDTO) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/request-check - Creating request check by user ID: {}", currentUser.getId());
+
+        RequestCheckResponseDTO response = requestCheckService.createRequestCheck(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RequestCheckResponseDTO> getRequestCheckById(@PathVariable Long id) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("GET /api/request-check/{} - Fetching request check by user ID: {}", id, currentUser.getId());
+
+        RequestCheckResponseDTO response = requestCheckService.getRequestCheckById(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RequestCheckResponseDTO>> getAllRequestChecks() {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("GET /api/request-check - Fetching all request checks by user ID: {}", currentUser.getId());
+
+        List<RequestCheckResponseDTO> response = requestCheckService.getAllRequestChecks();
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<RequestCheckResponseDTO> updateRequestCheck(
+            @PathVariable Long id,
+            @Valid @RequestBody RequestCheckRequestDTO requestDTO) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("PUT /api/request-check/{} - Updating request check by user ID: {}", id, currentUser.getId());
+
+        RequestCheckResponseDTO response = requestCheckService.updateRequestCheck(id, requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRequestCheck(@PathVariable Long id) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("DELETE /api/request-check/{} - Deleting request check by user ID: {}", id, currentUser.getId());
+
+        requestCheckService.deleteRequestCheck(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,10 +1,16 @@
 package com.tedioinfernal.tedioapp.controller;
 
+import com.tedioinfernal.tedioapp.dto.LoadTestRequestDTO;
+import com.tedioinfernal.tedioapp.dto.RequestBatchRequestDTO;
+import com.tedioinfernal.tedioapp.dto.RequestBatchResponseDTO;
 import com.tedioinfernal.tedioapp.dto.RequestDTO;
 import com.tedioinfernal.tedioapp.dto.RequestResponseDTO;
+import com.tedioinfernal.tedioapp.dto.RequestStreamResponseDTO;
 import com.tedioinfernal.tedioapp.dto.RequestTestResponseDTO;
 import com.tedioinfernal.tedioapp.entity.User;
 import com.tedioinfernal.tedioapp.security.UserContext;
+import com.tedioinfernal.tedioapp.service.LoadTestService;
+import com.tedioinfernal.tedioapp.service.RequestBatchService;
 import com.tedioinfernal.tedioapp.service.RequestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +18,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,6 +31,8 @@ import java.util.List;
 public class RequestController {
 
     private final RequestService requestService;
+    private final RequestBatchService requestBatchService;
+    private final LoadTestService loadTestService;
 
     @PostMapping
     public ResponseEntity<RequestResponseDTO> createRequest(
@@ -84,14 +95,59 @@ public class RequestController {
     }
 
     @PostMapping("/test/{id}")
-    public ResponseEntity<RequestTestResponseDTO> testRequest(
+    public DeferredResult<ResponseEntity<RequestTestResponseDTO>> testRequest(
             @PathVariable Long id,
             @RequestParam(required = false, defaultValue = "false") boolean registerTest) {
         
         User currentUser = UserContext.getCurrentUser();
         log.info("POST /api/request/test/{}?registerTest={} - Testing request by user ID: {}", id, registerTest, currentUser.getId());
         
-        RequestTestResponseDTO response = requestService.testRequest(id, registerTest);
+        // Execução assíncrona: a thread do servlet é liberada enquanto aguarda o destino
+        DeferredResult<ResponseEntity<RequestTestResponseDTO>> result = new DeferredResult<>(requestService.getResultTimeoutMs());
+        requestService.testRequestAsync(id, registerTest)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.setErrorResult(error);
+                    } else {
+                        result.setResult(ResponseEntity.ok(response));
+                    }
+                });
+        return result;
+    }
+
+    @PostMapping("/test/{id}/stream")
+    public ResponseEntity<StreamingResponseBody> streamRequest(
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "false") boolean registerTest) {
+        
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/request/test/{}/stream?registerTest={} - Streaming request by user ID: {}", id, registerTest, currentUser.getId());
+        
+        RequestStreamResponseDTO response = requestService.streamRequest(id, registerTest);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getStatusCode());
+        response.getHeaders().forEach(builder::header);
+        return builder.body(response.getBody());
+    }
+
+    @PostMapping("/test/batch")
+    public ResponseEntity<RequestBatchResponseDTO> testRequestBatch(
+            @Valid @RequestBody RequestBatchRequestDTO batchDTO) {
+        
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/request/test/batch - Testing {} requests by user ID: {}", batchDTO.getItems().size(), currentUser.getId());
+        
+        RequestBatchResponseDTO response = requestBatchService.executeBatch(batchDTO);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/test/{id}/load")
+    public SseEmitter loadTestRequest(
+            @PathVariable Long id,
+            @Valid @RequestBody LoadTestRequestDTO loadTestDTO) {
+        
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/request/test/{}/load - Starting load test by user ID: {}", id, currentUser.getId());
+        
+        return loadTestService.startLoadTest(id, loadTestDTO, currentUser.getId());
+    }
 }
@@ -0,0 +1,104 @@
+package com.tedioinfernal.tedioapp.controller;
+
+import com.tedioinfernal.tedioapp.dto.WorkflowRequestDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowResponseDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowRunRequestDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowRunResponseDTO;
+import com.tedioinfernal.tedioapp.entity.User;
+import com.tedioinfernal.tedioapp.security.UserContext;
+import com.tedioinfernal.tedioapp.service.WorkflowExecutionService;
+import com.tedioinfernal.tedioapp.service.WorkflowService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workflow")
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowController {
+
+    private final WorkflowService workflowService;
+    private final WorkflowExecutionService workflowExecutionService;
+
+    @PostMapping
+    public ResponseEntity<WorkflowResponseDTO> createWorkflow(
+            @Valid @RequestBody WorkflowRequestDTO requestDTO) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/workflow - Creating workflow by user ID: {}", currentUser.getId());
+
+        WorkflowResponseDTO response = workflowService.createWorkflow(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<WorkflowResponseDTO> getWorkflowById(@PathVariable Long id) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("GET /api/workflow/{} - Fetching workflow by user ID: {}", id, currentUser.getId());
+
+        WorkflowResponseDTO response = workflowService.getWorkflowById(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WorkflowResponseDTO>> getAllWorkflows() {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("GET /api/workflow - Fetching all workflows by user ID: {}", currentUser.getId());
+
+        List<WorkflowResponseDTO> response = workflowService.getAllWorkflows();
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<WorkflowResponseDTO> updateWorkflow(
+            @PathVariable Long id,
+            @Valid @RequestBody WorkflowRequestDTO requestDTO) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("PUT /api/workflow/{} - Updating workflow by user ID: {}", id, currentUser.getId());
+
+        WorkflowResponseDTO response = workflowService.updateWorkflow(id, requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWorkflow(@PathVariable Long id) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("DELETE /api/workflow/{} - Deleting workflow by user ID: {}", id, currentUser.getId());
+
+        workflowService.deleteWorkflow(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/run")
+    public DeferredResult<ResponseEntity<WorkflowRunResponseDTO>> runWorkflow(
+            @PathVariable Long id,
+            @RequestBody(required = false) WorkflowRunRequestDTO runDTO) {
+
+        User currentUser = UserContext.getCurrentUser();
+        log.info("POST /api/workflow/{}/run - Running workflow by user ID: {}", id, currentUser.getId());
+
+        // Execução assíncrona: a thread do servlet é liberada enquanto os nós executam
+        DeferredResult<ResponseEntity<WorkflowRunResponseDTO>> result =
+                new DeferredResult<>(workflowExecutionService.getResultTimeoutMs());
+        workflowExecutionService.runWorkflow(id, runDTO)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.setErrorResult(error);
+                    } else {
+                        result.setResult(ResponseEntity.ok(response));
+                    }
+                });
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionBroadcastProgressDTO {
+
+    private UUID broadcastId;
+    private int total;
+    private int pending;
+    private int completed;
+    private int sent;
+    private int failed;
+    private long elapsedMs;
+}
@@ -0,0 +1,21 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionBroadcastRecipientDTO {
+
+    @NotBlank(message = "Número é obrigatório")
+    private String number;
+
+    private Map<String, Object> variables;
+}
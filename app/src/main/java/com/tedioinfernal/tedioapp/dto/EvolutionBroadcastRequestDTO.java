@@ -0,0 +1,34 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Envio de uma mensagem de texto para vários destinatários pela mesma instância.
+ * O template usa referências ${variavel}, preenchidas com as variáveis de cada destinatário.
+ * Cada destinatário vira uma mensagem da fila de saída (evolution_outbound_messages) com o mesmo broadcastId.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionBroadcastRequestDTO {
+
+    @NotNull(message = "Evolution Instance ID é obrigatório")
+    private Long evolutionInstanceId;
+
+    @NotBlank(message = "O template da mensagem é obrigatório")
+    private String template;
+
+    @NotEmpty(message = "Informe pelo menos um destinatário")
+    @Valid
+    private List<EvolutionBroadcastRecipientDTO> recipients;
+}
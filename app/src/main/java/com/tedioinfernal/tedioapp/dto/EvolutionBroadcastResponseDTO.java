@@ -0,0 +1,20 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionBroadcastResponseDTO {
+
+    private UUID broadcastId;
+    private EvolutionBroadcastProgressDTO progress;
+    private List<EvolutionBroadcastResultDTO> results;
+}
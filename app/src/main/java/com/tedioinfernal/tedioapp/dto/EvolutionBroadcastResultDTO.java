@@ -0,0 +1,27 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionBroadcastResultDTO {
+
+    private int index;
+    private Long messageId;
+    private String number;
+    private EvolutionMessageStatus status;
+    private boolean success;
+    private Integer attempts;
+    private String evolutionMessageId;
+    private String evolutionStatus;
+    private String errorMessage;
+    private LocalDateTime sentAt;
+}
@@ -1,17 +1,34 @@
 package com.tedioinfernal.tedioapp.dto;
 
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageStatus;
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class EvolutionMessageResponseDTO {
 
+    private Long id;
+    private Long evolutionInstanceId;
+    private EvolutionMessageType type;
     private String number;
     private String message;
-    private String status;
+    private EvolutionMessageStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private String evolutionMessageId;
+    private String evolutionStatus;
+    private LocalDateTime sentAt;
+    private UUID broadcastId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
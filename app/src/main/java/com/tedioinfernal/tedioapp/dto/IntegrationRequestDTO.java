@@ -1,5 +1,8 @@
 package com.tedioinfernal.tedioapp.dto;
 
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -8,6 +11,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.net.http.HttpClient;
 import java.util.Map;
 
 @Data
@@ -31,4 +35,34 @@ public class IntegrationRequestDTO {
     private Long authenticationId;
 
     private Map<String, String> headers;
+
+    private HttpClient.Version httpVersion;
+
+    @Min(value = 1, message = "O timeout de conexão deve ser positivo")
+    private Integer connectTimeoutMs;
+
+    @Min(value = 1, message = "O timeout de resposta deve ser positivo")
+    private Integer readTimeoutMs;
+
+    @Min(value = 1, message = "A integração deve ter pelo menos 1 thread")
+    @Max(value = 64, message = "A integração pode ter no máximo 64 threads")
+    private Integer executorThreads;
+
+    @Min(value = 1, message = "O tamanho máximo do response deve ser positivo")
+    private Long maxResponseBytes;
+
+    @Min(value = 1, message = "O máximo de tentativas deve ser pelo menos 1")
+    @Max(value = 10, message = "O máximo de tentativas não pode passar de 10")
+    private Integer retryMaxAttempts;
+
+    @Min(value = 0, message = "A espera base do retry não pode ser negativa")
+    private Integer retryBaseDelayMs;
+
+    @Min(value = 0, message = "A espera máxima do retry não pode ser negativa")
+    private Integer retryMaxDelayMs;
+
+    @Pattern(regexp = "^\\s*\\d{3}(\\s*,\\s*\\d{3})*\\s*$", message = "Os status de retry devem ser códigos HTTP separados por vírgula")
+    private String retryStatusCodes;
+
+    private ReplayMode replayMode;
 }
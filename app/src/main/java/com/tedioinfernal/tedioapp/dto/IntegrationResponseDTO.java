@@ -1,10 +1,12 @@
 package com.tedioinfernal.tedioapp.dto;
 
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.net.http.HttpClient;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -23,6 +25,16 @@ public class IntegrationResponseDTO {
     private Long authenticationId;
     private String authenticationNome;
     private Map<String, String> headers;
+    private HttpClient.Version httpVersion;
+    private Integer connectTimeoutMs;
+    private Integer readTimeoutMs;
+    private Integer executorThreads;
+    private Long maxResponseBytes;
+    private Integer retryMaxAttempts;
+    private Integer retryBaseDelayMs;
+    private Integer retryMaxDelayMs;
+    private String retryStatusCodes;
+    private ReplayMode replayMode;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,21 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestProgressDTO {
+
+    private long elapsedMs;
+    private long completed;
+    private long errors;
+    private double intervalThroughputPerSecond;
+    private double intervalP50Ms;
+    private double intervalP99Ms;
+    private int inFlight;
+}
@@ -0,0 +1,29 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestReportDTO {
+
+    private Long requestId;
+    private String mode;
+    private int concurrency;
+    private Integer ratePerSecond;
+    private long durationMs;
+    private long totalRequests;
+    private long successCount;
+    private long errorCount;
+    private long droppedCount;
+    private double throughputPerSecond;
+    private Map<String, Double> latencyMs;
+    private Map<String, Long> errors;
+    private boolean aborted;
+}
@@ -0,0 +1,30 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Teste de carga de uma Request: sem ratePerSecond, cada worker envia em loop (concorrência fixa);
+ * com ratePerSecond, as chamadas são disparadas na taxa informada usando até concurrency workers.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestRequestDTO {
+
+    @NotNull(message = "A concorrência é obrigatória")
+    @Min(value = 1, message = "A concorrência deve ser no mínimo 1")
+    private Integer concurrency;
+
+    @Min(value = 1, message = "A taxa deve ser de pelo menos 1 request por segundo")
+    private Integer ratePerSecond;
+
+    @NotNull(message = "A duração é obrigatória")
+    @Min(value = 1, message = "A duração deve ser de pelo menos 1 segundo")
+    private Integer durationSeconds;
+}
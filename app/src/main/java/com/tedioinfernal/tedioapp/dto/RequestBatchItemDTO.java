@@ -0,0 +1,21 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestBatchItemDTO {
+
+    @NotNull(message = "O ID da request é obrigatório")
+    private Long requestId;
+
+    private Map<String, Object> variables;
+}
@@ -0,0 +1,19 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestBatchItemResultDTO {
+
+    private int index;
+    private Long requestId;
+    private long queueTimeMs;
+    private long executionTimeMs;
+    private RequestTestResponseDTO result;
+}
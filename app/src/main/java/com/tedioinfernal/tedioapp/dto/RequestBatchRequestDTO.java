@@ -0,0 +1,25 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestBatchRequestDTO {
+
+    @NotEmpty(message = "A lista de requests não pode estar vazia")
+    @Valid
+    private List<RequestBatchItemDTO> items;
+
+    @Min(value = 1, message = "O paralelismo deve ser no mínimo 1")
+    private Integer parallelism;
+}
@@ -0,0 +1,23 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestBatchResponseDTO {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private int parallelism;
+    private int authenticationsResolved;
+    private long totalTimeMs;
+    private List<RequestBatchItemResultDTO> results;
+}
@@ -0,0 +1,25 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestCheckRequestDTO {
+
+    @NotNull(message = "O ID da request é obrigatório")
+    private Long requestId;
+
+    @Min(value = 5, message = "O intervalo deve ser de pelo menos 5 segundos")
+    private Integer intervalSeconds;
+
+    private String cronExpression;
+
+    private Boolean enabled;
+}
@@ -0,0 +1,30 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestCheckResponseDTO {
+
+    private Long id;
+    private Long requestId;
+    private String requestNome;
+    private Integer intervalSeconds;
+    private String cronExpression;
+    private Boolean enabled;
+    private LocalDateTime nextRunAt;
+    private LocalDateTime lastRunAt;
+    private Integer lastStatusCode;
+    private Boolean lastSuccess;
+    private Long lastLatencyMs;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,8 @@ package com.tedioinfernal.tedioapp.dto;
 
 import com.tedioinfernal.tedioapp.enums.ContentType;
 import com.tedioinfernal.tedioapp.enums.HttpMethod;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -35,4 +37,17 @@ public class RequestDTO {
     private Map<String, String> paramFields;
 
     private Map<String, Object> requestExample;
+
+    private Boolean cacheEnabled;
+
+    @Min(value = 1, message = "O TTL do cache deve ser de pelo menos 1 segundo")
+    private Integer cacheTtlSeconds;
+
+    @Min(value = 1, message = "O máximo de tentativas deve ser pelo menos 1")
+    @Max(value = 10, message = "O máximo de tentativas não pode passar de 10")
+    private Integer retryMaxAttempts;
+
+    private Boolean retryNonIdempotent;
+
+    private Boolean hedgeEnabled;
 }
@@ -1,5 +1,6 @@
 package com.tedioinfernal.tedioapp.dto;
 
+import com.tedioinfernal.tedioapp.entity.ResponseSchema;
 import com.tedioinfernal.tedioapp.enums.ContentType;
 import com.tedioinfernal.tedioapp.enums.HttpMethod;
 import lombok.AllArgsConstructor;
@@ -29,6 +30,12 @@ public class RequestResponseDTO {
     private Map<String, Object> requestExample;
     private Map<String, String> responseFields;
     private Map<String, Object> responseExample;
+    private ResponseSchema responseSchema;
+    private Boolean cacheEnabled;
+    private Integer cacheTtlSeconds;
+    private Integer retryMaxAttempts;
+    private Boolean retryNonIdempotent;
+    private Boolean hedgeEnabled;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
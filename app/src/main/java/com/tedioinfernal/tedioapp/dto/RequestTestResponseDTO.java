@@ -1,10 +1,13 @@
 package com.tedioinfernal.tedioapp.dto;
 
+import com.tedioinfernal.tedioapp.enums.CacheStatus;
+import com.tedioinfernal.tedioapp.enums.CircuitState;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -26,4 +29,11 @@ public class RequestTestResponseDTO {
     private Map<String, String> extractedFields;
     private String errorMessage;
     private long responseTimeMs;
+    private Integer requestSizeBytes;
+    private Long responseSizeBytes;
+    private boolean responseTruncated;
+    private CacheStatus cacheStatus;
+    private CircuitState circuitState;
+    private int attempts;
+    private List<Long> attemptLatenciesMs;
 }
@@ -0,0 +1,28 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowNodeDTO {
+
+    @NotBlank(message = "A key do nó não pode estar vazia")
+    private String key;
+
+    @NotNull(message = "O ID da request é obrigatório")
+    private Long requestId;
+
+    private List<String> dependsOn;
+
+    private Map<String, String> inputs;
+}
@@ -0,0 +1,24 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import com.tedioinfernal.tedioapp.enums.WorkflowNodeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowNodeResultDTO {
+
+    private String key;
+    private Long requestId;
+    private WorkflowNodeStatus status;
+    private long startOffsetMs;
+    private long executionTimeMs;
+    private Map<String, Object> inputs;
+    private RequestTestResponseDTO result;
+}
@@ -0,0 +1,27 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRequestDTO {
+
+    @NotBlank(message = "O nome não pode estar vazio")
+    private String nome;
+
+    private String description;
+
+    @NotEmpty(message = "O workflow deve ter pelo menos um nó")
+    @Valid
+    private List<WorkflowNodeDTO> nodes;
+}
@@ -0,0 +1,23 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowResponseDTO {
+
+    private Long id;
+    private String nome;
+    private String description;
+    private List<WorkflowNodeDTO> nodes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.tedioinfernal.tedioapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRunResponseDTO {
+
+    private Long workflowId;
+    private String workflowNome;
+    private boolean success;
+    private long totalTimeMs;
+    private List<WorkflowNodeResultDTO> nodes;
+}
@@ -0,0 +1,86 @@
+package com.tedioinfernal.tedioapp.entity;
+
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageStatus;
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "evolution_outbound_messages")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionOutboundMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "evolution_instance_id", nullable = false)
+    private EvolutionInstance evolutionInstance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", nullable = false, length = 20)
+    private EvolutionMessageType messageType;
+
+    @Column(nullable = false, length = 50)
+    private String number;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    private Map<String, Object> payload;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EvolutionMessageStatus status = EvolutionMessageStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "evolution_message_id", length = 255)
+    private String evolutionMessageId;
+
+    @Column(name = "evolution_status", length = 50)
+    private String evolutionStatus;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "broadcast_id")
+    private UUID broadcastId;
+
+    @Column(name = "broadcast_index")
+    private Integer broadcastIndex;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
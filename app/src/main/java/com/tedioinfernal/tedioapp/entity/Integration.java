@@ -1,5 +1,6 @@
 package com.tedioinfernal.tedioapp.entity;
 
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
 
+import java.net.http.HttpClient;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -46,6 +48,39 @@ public class Integration {
     @Column(name = "headers", columnDefinition = "jsonb")
     private Map<String, String> headers;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "http_version", length = 20)
+    private HttpClient.Version httpVersion;
+
+    @Column(name = "connect_timeout_ms")
+    private Integer connectTimeoutMs;
+
+    @Column(name = "read_timeout_ms")
+    private Integer readTimeoutMs;
+
+    @Column(name = "executor_threads")
+    private Integer executorThreads;
+
+    @Column(name = "max_response_bytes")
+    private Long maxResponseBytes;
+
+    @Column(name = "retry_max_attempts")
+    private Integer retryMaxAttempts;
+
+    @Column(name = "retry_base_delay_ms")
+    private Integer retryBaseDelayMs;
+
+    @Column(name = "retry_max_delay_ms")
+    private Integer retryMaxDelayMs;
+
+    @Column(name = "retry_status_codes", length = 100)
+    private String retryStatusCodes;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "replay_mode", nullable = false, length = 20)
+    private ReplayMode replayMode = ReplayMode.OFF;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
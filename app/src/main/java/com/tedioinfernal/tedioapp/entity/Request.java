@@ -66,6 +66,28 @@ public class Request {
     @Column(name = "response_example", columnDefinition = "jsonb")
     private Map<String, Object> responseExample;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "response_schema", columnDefinition = "jsonb")
+    private ResponseSchema responseSchema;
+
+    @Builder.Default
+    @Column(name = "cache_enabled", nullable = false)
+    private Boolean cacheEnabled = false;
+
+    @Column(name = "cache_ttl_seconds")
+    private Integer cacheTtlSeconds;
+
+    @Column(name = "retry_max_attempts")
+    private Integer retryMaxAttempts;
+
+    @Builder.Default
+    @Column(name = "retry_non_idempotent", nullable = false)
+    private Boolean retryNonIdempotent = false;
+
+    @Builder.Default
+    @Column(name = "hedge_enabled", nullable = false)
+    private Boolean hedgeEnabled = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
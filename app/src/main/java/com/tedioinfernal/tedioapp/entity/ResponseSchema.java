@@ -0,0 +1,28 @@
+package com.tedioinfernal.tedioapp.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Schema acumulado dos responses de uma Request (armazenado no JSONB requests.response_schema).
+ * samples é a quantidade de responses mesclados; fields usa o mesmo formato de chave de responseFields.
+ * truncated indica que o limite total de campos foi atingido e campos novos deixaram de ser adicionados.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseSchema {
+
+    private long samples;
+
+    private boolean truncated;
+
+    @Builder.Default
+    private Map<String, ResponseSchemaField> fields = new HashMap<>();
+}
@@ -0,0 +1,31 @@
+package com.tedioinfernal.tedioapp.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estatísticas de um campo do ResponseSchema.
+ * count é o total de ocorrências; presence é count dividido pelas ocorrências do objeto pai
+ * (ou pelos samples, na raiz) e fica nulo para elementos de array.
+ * minSize/maxSize são o tamanho de strings e a quantidade de elementos de arrays.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseSchemaField {
+
+    private long count;
+
+    @Builder.Default
+    private Map<String, Long> types = new HashMap<>();
+
+    private Long minSize;
+    private Long maxSize;
+    private Double presence;
+}
@@ -0,0 +1,45 @@
+package com.tedioinfernal.tedioapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Entity
+@Table(name = "workflows")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Workflow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 255)
+    private String nome;
+
+    @Column(length = 500)
+    private String description;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "nodes", columnDefinition = "jsonb", nullable = false)
+    private List<WorkflowNode> nodes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
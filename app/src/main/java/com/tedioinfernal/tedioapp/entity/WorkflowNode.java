@@ -0,0 +1,25 @@
+package com.tedioinfernal.tedioapp.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nó de um Workflow (armazenado no JSONB workflows.nodes).
+ * inputs mapeia variável ${} da request -> caminho no response de um nó anterior (ex: "criarPedido.data.id")
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowNode {
+
+    private String key;
+    private Long requestId;
+    private List<String> dependsOn;
+    private Map<String, String> inputs;
+}
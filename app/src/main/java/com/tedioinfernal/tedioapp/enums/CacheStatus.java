@@ -0,0 +1,9 @@
+package com.tedioinfernal.tedioapp.enums;
+
+public enum CacheStatus {
+    HIT,
+    MISS,
+    REVALIDATED,
+    BYPASS,
+    REPLAY
+}
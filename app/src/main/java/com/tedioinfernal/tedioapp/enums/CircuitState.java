@@ -0,0 +1,7 @@
+package com.tedioinfernal.tedioapp.enums;
+
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -0,0 +1,11 @@
+package com.tedioinfernal.tedioapp.enums;
+
+/**
+ * Situação de uma mensagem na fila de saída do Evolution
+ */
+public enum EvolutionMessageStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
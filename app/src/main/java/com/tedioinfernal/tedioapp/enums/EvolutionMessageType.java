@@ -0,0 +1,8 @@
+package com.tedioinfernal.tedioapp.enums;
+
+public enum EvolutionMessageType {
+    TEXT,
+    MEDIA,
+    AUDIO,
+    STICKER
+}
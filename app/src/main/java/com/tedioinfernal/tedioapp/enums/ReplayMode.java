@@ -0,0 +1,11 @@
+package com.tedioinfernal.tedioapp.enums;
+
+/**
+ * Modo de gravação/reprodução de responses de uma Integration.
+ * RECORD grava cada response recebido; REPLAY responde só com gravações, sem chamar o destino.
+ */
+public enum ReplayMode {
+    OFF,
+    RECORD,
+    REPLAY
+}
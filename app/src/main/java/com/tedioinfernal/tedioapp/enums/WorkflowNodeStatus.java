@@ -0,0 +1,8 @@
+package com.tedioinfernal.tedioapp.enums;
+
+public enum WorkflowNodeStatus {
+    SUCCESS,
+    FAILED,
+    SKIPPED,
+    TIMEOUT
+}
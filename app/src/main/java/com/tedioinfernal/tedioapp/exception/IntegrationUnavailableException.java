@@ -0,0 +1,22 @@
+package com.tedioinfernal.tedioapp.exception;
+
+import com.tedioinfernal.tedioapp.enums.CircuitState;
+import lombok.Getter;
+
+/**
+ * Chamada recusada antes de sair para o destino: circuito aberto ou limite de chamadas simultâneas atingido
+ */
+@Getter
+public class IntegrationUnavailableException extends RuntimeException {
+
+    private final Long integrationId;
+    private final CircuitState circuitState;
+    private final boolean bulkheadFull;
+
+    public IntegrationUnavailableException(String message, Long integrationId, CircuitState circuitState, boolean bulkheadFull) {
+        super(message);
+        this.integrationId = integrationId;
+        this.circuitState = circuitState;
+        this.bulkheadFull = bulkheadFull;
+    }
+}
@@ -0,0 +1,17 @@
+package com.tedioinfernal.tedioapp.exception;
+
+import lombok.Getter;
+
+/**
+ * Usuário autenticado sem a permissão exigida pela operação
+ */
+@Getter
+public class PermissionDeniedException extends RuntimeException {
+
+    private final String permission;
+
+    public PermissionDeniedException(String permission) {
+        super("Permissão necessária: " + permission);
+        this.permission = permission;
+    }
+}
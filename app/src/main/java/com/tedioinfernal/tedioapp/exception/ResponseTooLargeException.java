@@ -0,0 +1,47 @@
+package com.tedioinfernal.tedioapp.exception;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Response do destino maior que o limite configurado: a conexão foi abortada e só o início do body foi capturado.
+ * É uma IOException porque é assim que o HttpClient propaga falhas do body (no envio síncrono ela chega como causa)
+ */
+@Getter
+public class ResponseTooLargeException extends IOException {
+
+    private final int statusCode;
+    private final Map<String, String> headers;
+    private final String capturedBody;
+    private final long bytesRead;
+    private final long limit;
+    private final boolean declaredLength;
+
+    public ResponseTooLargeException(int statusCode, Map<String, String> headers, String capturedBody,
+                                     long bytesRead, long limit, boolean declaredLength) {
+        super("Response do destino excede o limite de " + limit + " bytes");
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.capturedBody = capturedBody;
+        this.bytesRead = bytesRead;
+        this.limit = limit;
+        this.declaredLength = declaredLength;
+    }
+
+    /**
+     * Procura a exceção na cadeia de causas (HttpClient.send e CompletableFuture a embrulham)
+     */
+    public static ResponseTooLargeException find(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ResponseTooLargeException tooLarge) {
+                return tooLarge;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+}
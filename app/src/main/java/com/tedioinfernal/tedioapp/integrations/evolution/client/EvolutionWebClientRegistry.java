@@ -0,0 +1,143 @@
+package com.tedioinfernal.tedioapp.integrations.evolution.client;
+
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Um WebClient imutável por Evolution, já com base URL, header apikey e pool de conexões próprio.
+ * Os clients do Evolution só montam a chamada; nenhum deles mexe no WebClient.Builder compartilhado
+ * (que é mutável e não pode ser usado concorrentemente).
+ * O WebClient é recriado quando a URL ou a API Key mudam: EvolutionService invalida na atualização e,
+ * se uma instância desatualizada chegar aqui, a comparação com a Evolution recebida também força a reconstrução.
+ */
+@Component
+@Slf4j
+public class EvolutionWebClientRegistry {
+
+    private final WebClient.Builder webClientBuilder;
+    private final Map<Long, EvolutionWebClient> clients = new ConcurrentHashMap<>();
+    private final int connectTimeoutMs;
+    private final Duration responseTimeout;
+    private final int maxConnections;
+    private final Duration pendingAcquireTimeout;
+    private final Duration maxIdleTime;
+
+    public EvolutionWebClientRegistry(
+            WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${evolution.http-client.connect-timeout-ms:10000}") int connectTimeoutMs,
+            @Value("${evolution.http-client.response-timeout-ms:30000}") long responseTimeoutMs,
+            @Value("${evolution.http-client.max-connections:50}") int maxConnections,
+            @Value("${evolution.http-client.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs,
+            @Value("${evolution.http-client.max-idle-time-ms:60000}") long maxIdleTimeMs) {
+        this.webClientBuilder = webClientBuilder;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.responseTimeout = Duration.ofMillis(responseTimeoutMs);
+        this.maxConnections = maxConnections;
+        this.pendingAcquireTimeout = Duration.ofMillis(pendingAcquireTimeoutMs);
+        this.maxIdleTime = Duration.ofMillis(maxIdleTimeMs);
+        Gauge.builder("evolution.http.clients", clients, Map::size)
+                .description("WebClients ativos por Evolution")
+                .register(meterRegistry);
+    }
+
+    /**
+     * WebClient da Evolution (recriado se a URL ou a API Key mudaram)
+     */
+    public WebClient get(Evolution evolution) {
+        EvolutionWebClient client = clients.get(evolution.getId());
+        if (client != null && client.matches(evolution)) {
+            return client.getWebClient();
+        }
+        EvolutionWebClient[] replaced = new EvolutionWebClient[1];
+        EvolutionWebClient current = clients.compute(evolution.getId(), (id, existing) -> {
+            if (existing != null && existing.matches(evolution)) {
+                return existing;
+            }
+            replaced[0] = existing;
+            log.info("Building WebClient for Evolution ID: {} ({})", id, evolution.getUrl());
+            return build(evolution);
+        });
+        if (replaced[0] != null) {
+            replaced[0].dispose();
+        }
+        return current.getWebClient();
+    }
+
+    /**
+     * Descarta o WebClient da Evolution. O pool antigo espera as chamadas em andamento antes de fechar as conexões.
+     */
+    public void invalidate(Long evolutionId) {
+        EvolutionWebClient removed = clients.remove(evolutionId);
+        if (removed != null) {
+            removed.dispose();
+            log.info("WebClient discarded for Evolution ID: {}", evolutionId);
+        }
+    }
+
+    private EvolutionWebClient build(Evolution evolution) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("evolution-" + evolution.getId())
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .disposeTimeout(responseTimeout)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .responseTimeout(responseTimeout)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs);
+
+        // clone(): o builder compartilhado mantém filtros e codecs, mas não é alterado
+        WebClient webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(evolution.getUrl())
+                .defaultHeader("apikey", evolution.getApiKey())
+                .build();
+        return new EvolutionWebClient(webClient, connectionProvider, evolution.getUrl(), evolution.getApiKey());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.values().forEach(EvolutionWebClient::dispose);
+        clients.clear();
+    }
+
+    @Getter
+    private static class EvolutionWebClient {
+        private final WebClient webClient;
+        private final ConnectionProvider connectionProvider;
+        private final String url;
+        private final String apiKey;
+
+        EvolutionWebClient(WebClient webClient, ConnectionProvider connectionProvider, String url, String apiKey) {
+            this.webClient = webClient;
+            this.connectionProvider = connectionProvider;
+            this.url = url;
+            this.apiKey = apiKey;
+        }
+
+        boolean matches(Evolution evolution) {
+            return Objects.equals(url, evolution.getUrl()) && Objects.equals(apiKey, evolution.getApiKey());
+        }
+
+        void dispose() {
+            connectionProvider.disposeLater().subscribe();
+        }
+    }
+}
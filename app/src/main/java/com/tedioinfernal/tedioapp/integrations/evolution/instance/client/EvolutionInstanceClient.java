@@ -1,11 +1,12 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.instance.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.instance.dto.CreateInstanceRequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.instance.dto.CreateInstanceResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -13,31 +14,26 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionInstanceClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Cria uma nova instância no Evolution API
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param request Dados da instância a ser criada
      * @return Response com dados da instância criada
      */
     public CreateInstanceResponseDTO createInstance(
-            String baseUrl, 
-            String apiKey, 
+            Evolution evolution,
             CreateInstanceRequestDTO request) {
         
-        log.info("Creating Evolution instance: {} at {}", request.getInstanceName(), baseUrl);
+        log.info("Creating Evolution instance: {} at {}", request.getInstanceName(), evolution.getUrl());
         
         try {
-            CreateInstanceResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            CreateInstanceResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/instance/create")
                     .header("Content-Type", "application/json")
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(CreateInstanceResponseDTO.class)
@@ -55,25 +51,20 @@ public class EvolutionInstanceClient {
     /**
      * Cria uma nova instância no Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param request Dados da instância a ser criada
      * @return Mono com response da instância criada
      */
     public Mono<CreateInstanceResponseDTO> createInstanceAsync(
-            String baseUrl, 
-            String apiKey, 
+            Evolution evolution,
             CreateInstanceRequestDTO request) {
         
-        log.info("Creating Evolution instance (async): {} at {}", request.getInstanceName(), baseUrl);
+        log.info("Creating Evolution instance (async): {} at {}", request.getInstanceName(), evolution.getUrl());
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/instance/create")
                 .header("Content-Type", "application/json")
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(CreateInstanceResponseDTO.class)
@@ -1,10 +1,11 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.instance.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.instance.dto.ConnectResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -12,27 +13,23 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionInstanceConnectClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Conecta uma instância e obtém QR Code no Evolution API (versão síncrona)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Response com QR Code e dados de conexão
      */
-    public ConnectResponseDTO connect(String baseUrl, String apiKey, String instanceName) {
+    public ConnectResponseDTO connect(Evolution evolution, String instanceName) {
         
-        log.info("Connecting Evolution instance: {} at {}", instanceName, baseUrl);
+        log.info("Connecting Evolution instance: {} at {}", instanceName, evolution.getUrl());
         
         try {
-            ConnectResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            ConnectResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .get()
                     .uri("/instance/connect/{instanceName}", instanceName)
-                    .header("apikey", apiKey)
                     .retrieve()
                     .bodyToMono(ConnectResponseDTO.class)
                     .block();
@@ -50,21 +47,17 @@ public class EvolutionInstanceConnectClient {
     /**
      * Conecta uma instância e obtém QR Code no Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Mono com response de conexão
      */
-    public Mono<ConnectResponseDTO> connectAsync(String baseUrl, String apiKey, String instanceName) {
+    public Mono<ConnectResponseDTO> connectAsync(Evolution evolution, String instanceName) {
         
-        log.info("Connecting Evolution instance (async): {} at {}", instanceName, baseUrl);
+        log.info("Connecting Evolution instance (async): {} at {}", instanceName, evolution.getUrl());
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .get()
                 .uri("/instance/connect/{instanceName}", instanceName)
-                .header("apikey", apiKey)
                 .retrieve()
                 .bodyToMono(ConnectResponseDTO.class)
                 .doOnSuccess(response -> 
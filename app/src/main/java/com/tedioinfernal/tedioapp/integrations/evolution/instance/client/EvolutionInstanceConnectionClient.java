@@ -1,10 +1,11 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.instance.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.instance.dto.ConnectionStateDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -12,27 +13,23 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionInstanceConnectionClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Verifica o estado da conexão de uma instância no Evolution API (versão síncrona)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Response com estado da conexão
      */
-    public ConnectionStateDTO getConnectionState(String baseUrl, String apiKey, String instanceName) {
+    public ConnectionStateDTO getConnectionState(Evolution evolution, String instanceName) {
         
-        log.info("Getting connection state for Evolution instance: {} at {}", instanceName, baseUrl);
+        log.info("Getting connection state for Evolution instance: {} at {}", instanceName, evolution.getUrl());
         
         try {
-            ConnectionStateDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            ConnectionStateDTO response = evolutionWebClientRegistry.get(evolution)
                     .get()
                     .uri("/instance/connectionState/{instanceName}", instanceName)
-                    .header("apikey", apiKey)
                     .retrieve()
                     .bodyToMono(ConnectionStateDTO.class)
                     .block();
@@ -50,21 +47,17 @@ public class EvolutionInstanceConnectionClient {
     /**
      * Verifica o estado da conexão de uma instância no Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Mono com response do estado da conexão
      */
-    public Mono<ConnectionStateDTO> getConnectionStateAsync(String baseUrl, String apiKey, String instanceName) {
+    public Mono<ConnectionStateDTO> getConnectionStateAsync(Evolution evolution, String instanceName) {
         
-        log.info("Getting connection state (async) for Evolution instance: {} at {}", instanceName, baseUrl);
+        log.info("Getting connection state (async) for Evolution instance: {} at {}", instanceName, evolution.getUrl());
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .get()
                 .uri("/instance/connectionState/{instanceName}", instanceName)
-                .header("apikey", apiKey)
                 .retrieve()
                 .bodyToMono(ConnectionStateDTO.class)
                 .doOnSuccess(response -> 
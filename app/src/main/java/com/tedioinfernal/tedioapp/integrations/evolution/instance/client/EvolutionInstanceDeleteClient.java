@@ -1,10 +1,11 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.instance.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.instance.dto.DeleteInstanceResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -12,27 +13,23 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionInstanceDeleteClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Deleta uma instância no Evolution API (versão síncrona)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Response com status da deleção
      */
-    public DeleteInstanceResponseDTO deleteInstance(String baseUrl, String apiKey, String instanceName) {
+    public DeleteInstanceResponseDTO deleteInstance(Evolution evolution, String instanceName) {
         
-        log.info("Deleting Evolution instance from API: {} at {}", instanceName, baseUrl);
+        log.info("Deleting Evolution instance from API: {} at {}", instanceName, evolution.getUrl());
         
         try {
-            DeleteInstanceResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            DeleteInstanceResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .delete()
                     .uri("/instance/delete/{instanceName}", instanceName)
-                    .header("apikey", apiKey)
                     .retrieve()
                     .bodyToMono(DeleteInstanceResponseDTO.class)
                     .block();
@@ -49,21 +46,17 @@ public class EvolutionInstanceDeleteClient {
     /**
      * Deleta uma instância no Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Mono com response da deleção
      */
-    public Mono<DeleteInstanceResponseDTO> deleteInstanceAsync(String baseUrl, String apiKey, String instanceName) {
+    public Mono<DeleteInstanceResponseDTO> deleteInstanceAsync(Evolution evolution, String instanceName) {
         
-        log.info("Deleting Evolution instance from API (async): {} at {}", instanceName, baseUrl);
+        log.info("Deleting Evolution instance from API (async): {} at {}", instanceName, evolution.getUrl());
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .delete()
                 .uri("/instance/delete/{instanceName}", instanceName)
-                .header("apikey", apiKey)
                 .retrieve()
                 .bodyToMono(DeleteInstanceResponseDTO.class)
                 .doOnSuccess(response -> 
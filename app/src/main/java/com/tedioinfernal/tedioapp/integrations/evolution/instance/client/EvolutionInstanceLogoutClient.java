@@ -1,10 +1,11 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.instance.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.instance.dto.LogoutResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -12,27 +13,23 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionInstanceLogoutClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Faz logout de uma instância no Evolution API (versão síncrona)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Response com status do logout
      */
-    public LogoutResponseDTO logout(String baseUrl, String apiKey, String instanceName) {
+    public LogoutResponseDTO logout(Evolution evolution, String instanceName) {
         
-        log.info("Logging out Evolution instance: {} at {}", instanceName, baseUrl);
+        log.info("Logging out Evolution instance: {} at {}", instanceName, evolution.getUrl());
         
         try {
-            LogoutResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            LogoutResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .delete()
                     .uri("/instance/logout/{instanceName}", instanceName)
-                    .header("apikey", apiKey)
                     .retrieve()
                     .bodyToMono(LogoutResponseDTO.class)
                     .block();
@@ -49,21 +46,17 @@ public class EvolutionInstanceLogoutClient {
     /**
      * Faz logout de uma instância no Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @return Mono com response do logout
      */
-    public Mono<LogoutResponseDTO> logoutAsync(String baseUrl, String apiKey, String instanceName) {
+    public Mono<LogoutResponseDTO> logoutAsync(Evolution evolution, String instanceName) {
         
-        log.info("Logging out Evolution instance (async): {} at {}", instanceName, baseUrl);
+        log.info("Logging out Evolution instance (async): {} at {}", instanceName, evolution.getUrl());
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .delete()
                 .uri("/instance/logout/{instanceName}", instanceName)
-                .header("apikey", apiKey)
                 .retrieve()
                 .bodyToMono(LogoutResponseDTO.class)
                 .doOnSuccess(response -> 
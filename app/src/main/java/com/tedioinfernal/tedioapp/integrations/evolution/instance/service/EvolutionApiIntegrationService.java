@@ -39,8 +39,7 @@ public class EvolutionApiIntegrationService {
         
         try {
             CreateInstanceResponseDTO response = evolutionInstanceClient.createInstance(
-                    evolution.getUrl(),
-                    evolution.getApiKey(),
+                    evolution,
                     request
             );
             
@@ -74,8 +73,7 @@ public class EvolutionApiIntegrationService {
         validateRequest(request);
         
         return evolutionInstanceClient.createInstanceAsync(
-                evolution.getUrl(),
-                evolution.getApiKey(),
+                evolution,
                 request
         )
         .doOnSuccess(response -> 
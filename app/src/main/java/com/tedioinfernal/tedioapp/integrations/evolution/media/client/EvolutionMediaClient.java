@@ -1,11 +1,12 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.media.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.media.dto.GetMediaBase64RequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.media.dto.GetMediaBase64ResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -13,20 +14,18 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionMediaClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Busca base64 de mensagem de mídia via Evolution API
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados da mensagem (message.key.id e convertToMp4)
      * @return Response com dados da mídia em base64
      */
     public GetMediaBase64ResponseDTO getBase64FromMediaMessage(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             GetMediaBase64RequestDTO request) {
         
@@ -34,13 +33,10 @@ public class EvolutionMediaClient {
                 request.getMessage().getKey().getId(), instanceName);
         
         try {
-            GetMediaBase64ResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            GetMediaBase64ResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/chat/getBase64FromMediaMessage/" + instanceName)
                     .header("Content-Type", "application/json")
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(GetMediaBase64ResponseDTO.class)
@@ -61,28 +57,23 @@ public class EvolutionMediaClient {
     /**
      * Busca base64 de mensagem de mídia via Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados da mensagem (message.key.id e convertToMp4)
      * @return Mono com response da mídia em base64
      */
     public Mono<GetMediaBase64ResponseDTO> getBase64FromMediaMessageAsync(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             GetMediaBase64RequestDTO request) {
         
         log.info("Getting base64 from media message (async) ID: {} via instance: {}", 
                 request.getMessage().getKey().getId(), instanceName);
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/chat/getBase64FromMediaMessage/" + instanceName)
                 .header("Content-Type", "application/json")
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(GetMediaBase64ResponseDTO.class)
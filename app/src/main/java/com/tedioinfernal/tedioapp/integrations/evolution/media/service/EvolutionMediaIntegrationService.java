@@ -40,8 +40,7 @@ public class EvolutionMediaIntegrationService {
         
         try {
             GetMediaBase64ResponseDTO response = evolutionMediaClient.getBase64FromMediaMessage(
-                    evolutionInstance.getEvolution().getUrl(),
-                    evolutionInstance.getEvolution().getApiKey(),
+                    evolutionInstance.getEvolution(),
                     evolutionInstance.getInstanceName(),
                     request
             );
@@ -80,8 +79,7 @@ public class EvolutionMediaIntegrationService {
         validateRequest(request);
         
         return evolutionMediaClient.getBase64FromMediaMessageAsync(
-                evolutionInstance.getEvolution().getUrl(),
-                evolutionInstance.getEvolution().getApiKey(),
+                evolutionInstance.getEvolution(),
                 evolutionInstance.getInstanceName(),
                 request
         )
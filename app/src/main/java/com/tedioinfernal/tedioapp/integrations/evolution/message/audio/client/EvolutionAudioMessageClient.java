@@ -1,11 +1,12 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.message.audio.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.dto.SendAudioRequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.dto.SendAudioResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -13,33 +14,28 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionAudioMessageClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Envia mensagem de áudio via Evolution API
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados do áudio (number e audio em base64)
      * @return Response com dados da mensagem enviada
      */
     public SendAudioResponseDTO sendAudio(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendAudioRequestDTO request) {
         
         log.info("Sending audio message to {} via instance: {}", request.getNumber(), instanceName);
         
         try {
-            SendAudioResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            SendAudioResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/message/sendWhatsAppAudio/" + instanceName)
                     .header("Content-Type", "application/json")
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(SendAudioResponseDTO.class)
@@ -62,28 +58,23 @@ public class EvolutionAudioMessageClient {
     /**
      * Envia mensagem de áudio via Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados do áudio (number e audio em base64)
      * @return Mono com response da mensagem enviada
      */
     public Mono<SendAudioResponseDTO> sendAudioAsync(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendAudioRequestDTO request) {
         
         log.info("Sending audio message (async) to {} via instance: {}", 
                 request.getNumber(), instanceName);
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/message/sendWhatsAppAudio/" + instanceName)
                 .header("Content-Type", "application/json")
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(SendAudioResponseDTO.class)
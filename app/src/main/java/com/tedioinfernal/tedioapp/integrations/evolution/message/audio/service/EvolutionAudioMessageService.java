@@ -39,8 +39,7 @@ public class EvolutionAudioMessageService {
         
         try {
             SendAudioResponseDTO response = evolutionAudioMessageClient.sendAudio(
-                    evolutionInstance.getEvolution().getUrl(),
-                    evolutionInstance.getEvolution().getApiKey(),
+                    evolutionInstance.getEvolution(),
                     evolutionInstance.getInstanceName(),
                     request
             );
@@ -80,8 +79,7 @@ public class EvolutionAudioMessageService {
         validateRequest(request);
         
         return evolutionAudioMessageClient.sendAudioAsync(
-                evolutionInstance.getEvolution().getUrl(),
-                evolutionInstance.getEvolution().getApiKey(),
+                evolutionInstance.getEvolution(),
                 evolutionInstance.getInstanceName(),
                 request
         )
@@ -1,11 +1,12 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.message.media.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.media.dto.SendMediaRequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.media.dto.SendMediaResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -13,20 +14,18 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionMediaMessageClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Envia mensagem de mídia via Evolution API
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados da mídia (number, mediatype, mimetype, media, fileName)
      * @return Response com dados da mensagem enviada
      */
     public SendMediaResponseDTO sendMedia(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendMediaRequestDTO request) {
         
@@ -34,13 +33,10 @@ public class EvolutionMediaMessageClient {
                 request.getMediatype(), request.getNumber(), instanceName);
         
         try {
-            SendMediaResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            SendMediaResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/message/sendMedia/" + instanceName)
                     .header("Content-Type", "application/json")
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(SendMediaResponseDTO.class)
@@ -59,28 +55,23 @@ public class EvolutionMediaMessageClient {
     /**
      * Envia mensagem de mídia via Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados da mídia (number, mediatype, mimetype, media, fileName)
      * @return Mono com response da mensagem enviada
      */
     public Mono<SendMediaResponseDTO> sendMediaAsync(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendMediaRequestDTO request) {
         
         log.info("Sending media message (async) ({}) to {} via instance: {}", 
                 request.getMediatype(), request.getNumber(), instanceName);
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/message/sendMedia/" + instanceName)
                 .header("Content-Type", "application/json")
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(SendMediaResponseDTO.class)
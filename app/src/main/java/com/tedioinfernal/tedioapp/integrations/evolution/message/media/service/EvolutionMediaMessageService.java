@@ -39,8 +39,7 @@ public class EvolutionMediaMessageService {
         
         try {
             SendMediaResponseDTO response = evolutionMediaMessageClient.sendMedia(
-                    evolutionInstance.getEvolution().getUrl(),
-                    evolutionInstance.getEvolution().getApiKey(),
+                    evolutionInstance.getEvolution(),
                     evolutionInstance.getInstanceName(),
                     request
             );
@@ -78,8 +77,7 @@ public class EvolutionMediaMessageService {
         validateRequest(request);
         
         return evolutionMediaMessageClient.sendMediaAsync(
-                evolutionInstance.getEvolution().getUrl(),
-                evolutionInstance.getEvolution().getApiKey(),
+                evolutionInstance.getEvolution(),
                 evolutionInstance.getInstanceName(),
                 request
         )
@@ -1,11 +1,12 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.dto.SendStickerRequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.dto.SendStickerResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -13,33 +14,28 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionStickerMessageClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Envia sticker via Evolution API
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados do sticker (number e sticker em base64)
      * @return Response com dados da mensagem enviada
      */
     public SendStickerResponseDTO sendSticker(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendStickerRequestDTO request) {
         
         log.info("Sending sticker to {} via instance: {}", request.getNumber(), instanceName);
         
         try {
-            SendStickerResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            SendStickerResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/message/sendSticker/" + instanceName)
                     .header("Content-Type", "application/json")
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(SendStickerResponseDTO.class)
@@ -58,28 +54,23 @@ public class EvolutionStickerMessageClient {
     /**
      * Envia sticker via Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados do sticker (number e sticker em base64)
      * @return Mono com response da mensagem enviada
      */
     public Mono<SendStickerResponseDTO> sendStickerAsync(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendStickerRequestDTO request) {
         
         log.info("Sending sticker (async) to {} via instance: {}", 
                 request.getNumber(), instanceName);
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/message/sendSticker/" + instanceName)
                 .header("Content-Type", "application/json")
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(SendStickerResponseDTO.class)
@@ -39,8 +39,7 @@ public class EvolutionStickerMessageService {
         
         try {
             SendStickerResponseDTO response = evolutionStickerMessageClient.sendSticker(
-                    evolutionInstance.getEvolution().getUrl(),
-                    evolutionInstance.getEvolution().getApiKey(),
+                    evolutionInstance.getEvolution(),
                     evolutionInstance.getInstanceName(),
                     request
             );
@@ -77,8 +76,7 @@ public class EvolutionStickerMessageService {
         validateRequest(request);
         
         return evolutionStickerMessageClient.sendStickerAsync(
-                evolutionInstance.getEvolution().getUrl(),
-                evolutionInstance.getEvolution().getApiKey(),
+                evolutionInstance.getEvolution(),
                 evolutionInstance.getInstanceName(),
                 request
         )
@@ -1,11 +1,12 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.message.text.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.text.dto.SendTextRequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.text.dto.SendTextResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -13,33 +14,28 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EvolutionTextMessageClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Envia mensagem de texto via Evolution API
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados da mensagem (number e text)
      * @return Response com dados da mensagem enviada
      */
     public SendTextResponseDTO sendText(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendTextRequestDTO request) {
         
         log.info("Sending text message to {} via instance: {}", request.getNumber(), instanceName);
         
         try {
-            SendTextResponseDTO response = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            SendTextResponseDTO response = evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/message/sendText/" + instanceName)
                     .header("Content-Type", "application/json")
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(SendTextResponseDTO.class)
@@ -58,28 +54,23 @@ public class EvolutionTextMessageClient {
     /**
      * Envia mensagem de texto via Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param request Dados da mensagem (number e text)
      * @return Mono com response da mensagem enviada
      */
     public Mono<SendTextResponseDTO> sendTextAsync(
-            String baseUrl,
-            String apiKey,
+            Evolution evolution,
             String instanceName,
             SendTextRequestDTO request) {
         
         log.info("Sending text message (async) to {} via instance: {}", 
                 request.getNumber(), instanceName);
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/message/sendText/" + instanceName)
                 .header("Content-Type", "application/json")
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(SendTextResponseDTO.class)
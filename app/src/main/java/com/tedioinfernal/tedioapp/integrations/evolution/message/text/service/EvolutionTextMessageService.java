@@ -39,8 +39,7 @@ public class EvolutionTextMessageService {
         
         try {
             SendTextResponseDTO response = evolutionTextMessageClient.sendText(
-                    evolutionInstance.getEvolution().getUrl(),
-                    evolutionInstance.getEvolution().getApiKey(),
+                    evolutionInstance.getEvolution(),
                     evolutionInstance.getInstanceName(),
                     request
             );
@@ -77,8 +76,7 @@ public class EvolutionTextMessageService {
         validateRequest(request);
         
         return evolutionTextMessageClient.sendTextAsync(
-                evolutionInstance.getEvolution().getUrl(),
-                evolutionInstance.getEvolution().getApiKey(),
+                evolutionInstance.getEvolution(),
                 evolutionInstance.getInstanceName(),
                 request
         )
@@ -1,12 +1,13 @@
 package com.tedioinfernal.tedioapp.integrations.evolution.webhook.client;
 
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.integrations.evolution.webhook.dto.SetWebhookRequestDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.webhook.dto.SetWebhookResponseDTO;
 import com.tedioinfernal.tedioapp.integrations.evolution.webhook.dto.WebhookConfigDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
@@ -18,20 +19,19 @@ import java.util.Map;
 @Slf4j
 public class EvolutionWebhookClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     /**
      * Configura webhook para uma instância no Evolution API (versão síncrona)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param webhookUrl URL do webhook
      * @return Response com configuração do webhook
      */
-    public SetWebhookResponseDTO setWebhook(String baseUrl, String apiKey, String instanceName, String webhookUrl) {
+    public SetWebhookResponseDTO setWebhook(Evolution evolution, String instanceName, String webhookUrl) {
         
-        log.info("Setting webhook for Evolution instance: {} at {} -> Webhook: {}", instanceName, baseUrl, webhookUrl);
+        log.info("Setting webhook for Evolution instance: {} at {} -> Webhook: {}", instanceName, evolution.getUrl(), webhookUrl);
         
         try {
             // Prepara headers do webhook
@@ -78,12 +78,9 @@ public class EvolutionWebhookClient {
                     .build();
             
             // Chama API e ignora response (API pode retornar formato variável)
-            webClientBuilder
-                    .baseUrl(baseUrl)
-                    .build()
+            evolutionWebClientRegistry.get(evolution)
                     .post()
                     .uri("/webhook/set/{instanceName}", instanceName)
-                    .header("apikey", apiKey)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(String.class)
@@ -105,15 +102,14 @@ public class EvolutionWebhookClient {
     /**
      * Configura webhook para uma instância no Evolution API (versão reativa)
      * 
-     * @param baseUrl URL base da instância Evolution
-     * @param apiKey API Key para autenticação
+     * @param evolution Evolution (URL base e API Key)
      * @param instanceName Nome da instância
      * @param webhookUrl URL do webhook
      * @return Mono com response da configuração
      */
-    public Mono<SetWebhookResponseDTO> setWebhookAsync(String baseUrl, String apiKey, String instanceName, String webhookUrl) {
+    public Mono<SetWebhookResponseDTO> setWebhookAsync(Evolution evolution, String instanceName, String webhookUrl) {
         
-        log.info("Setting webhook (async) for Evolution instance: {} at {} -> Webhook: {}", instanceName, baseUrl, webhookUrl);
+        log.info("Setting webhook (async) for Evolution instance: {} at {} -> Webhook: {}", instanceName, evolution.getUrl(), webhookUrl);
         
         // Prepara headers do webhook
         Map<String, String> headers = new HashMap<>();
@@ -158,12 +154,9 @@ public class EvolutionWebhookClient {
                 .webhook(webhookConfig)
                 .build();
         
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build()
+        return evolutionWebClientRegistry.get(evolution)
                 .post()
                 .uri("/webhook/set/{instanceName}", instanceName)
-                .header("apikey", apiKey)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(String.class)
@@ -0,0 +1,25 @@
+package com.tedioinfernal.tedioapp.repository;
+
+import com.tedioinfernal.tedioapp.entity.EvolutionOutboundMessage;
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EvolutionOutboundMessageRepository extends JpaRepository<EvolutionOutboundMessage, Long> {
+
+    List<EvolutionOutboundMessage> findByBroadcastIdOrderByBroadcastIndex(UUID broadcastId);
+
+    List<EvolutionOutboundMessage> findByBroadcastIdAndStatusInAndUpdatedAtGreaterThanEqual(
+            UUID broadcastId, Collection<EvolutionMessageStatus> statuses, LocalDateTime updatedAt);
+
+    @Query("SELECT m.status, COUNT(m) FROM EvolutionOutboundMessage m WHERE m.broadcastId = :broadcastId GROUP BY m.status")
+    List<Object[]> countByStatus(@Param("broadcastId") UUID broadcastId);
+}
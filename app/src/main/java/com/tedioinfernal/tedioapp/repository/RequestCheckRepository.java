@@ -0,0 +1,11 @@
+package com.tedioinfernal.tedioapp.repository;
+
+import com.tedioinfernal.tedioapp.entity.RequestCheck;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RequestCheckRepository extends JpaRepository<RequestCheck, Long> {
+
+    boolean existsByRequestId(Long requestId);
+}
@@ -18,5 +18,7 @@ public interface UserPermissionRepository extends JpaRepository<UserPermission,
     
     boolean existsByUserIdAndPermissionId(Long userId, Long permissionId);
     
+    boolean existsByUserIdAndPermissionName(Long userId, String permissionName);
+    
     void deleteByUserId(Long userId);
 }
@@ -0,0 +1,11 @@
+package com.tedioinfernal.tedioapp.repository;
+
+import com.tedioinfernal.tedioapp.entity.Workflow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkflowRepository extends JpaRepository<Workflow, Long> {
+
+    boolean existsByNome(String nome);
+}
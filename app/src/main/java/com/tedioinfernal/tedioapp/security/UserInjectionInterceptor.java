@@ -7,12 +7,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class UserInjectionInterceptor implements HandlerInterceptor {
+public class UserInjectionInterceptor implements AsyncHandlerInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
@@ -46,4 +46,10 @@ public class UserInjectionInterceptor implements HandlerInterceptor {
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         UserContext.clear();
     }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Requisições assíncronas (DeferredResult) liberam a thread antes do afterCompletion
+        UserContext.clear();
+    }
 }
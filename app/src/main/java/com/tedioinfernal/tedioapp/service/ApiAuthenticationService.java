@@ -13,14 +13,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,9 +32,10 @@ public class ApiAuthenticationService {
     private final ApiAuthenticationRepository apiAuthenticationRepository;
     private final OwnerRepository ownerRepository;
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+    private final ApiAuthenticationTokenCache tokenCache;
+    private final IntegrationHttpClientRegistry integrationHttpClientRegistry;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final JsonSchemaInferrer jsonSchemaInferrer;
 
     @Transactional
     public ApiAuthenticationResponseDTO createApiAuthentication(ApiAuthenticationRequestDTO requestDTO) {
@@ -111,6 +113,7 @@ public class ApiAuthenticationService {
         apiAuth.setHeaders(requestDTO.getHeaders());
 
         ApiAuthentication updatedApiAuth = apiAuthenticationRepository.save(apiAuth);
+        tokenCache.evict(id);
         log.info("API authentication updated successfully with ID: {}", updatedApiAuth.getId());
 
         return mapToResponseDTO(updatedApiAuth);
@@ -125,6 +128,7 @@ public class ApiAuthenticationService {
         }
 
         apiAuthenticationRepository.deleteById(id);
+        tokenCache.evict(id);
         log.info("API authentication deleted successfully with ID: {}", id);
     }
 
@@ -151,156 +155,253 @@ public class ApiAuthenticationService {
         long startTime = System.currentTimeMillis();
 
         try {
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiAuth.getUrl()))
-                    .timeout(Duration.ofSeconds(30));
+            HttpRequest request = buildAuthenticationRequest(apiAuth);
+            HttpResponse<String> response = send(request);
+            return toTestResponse(apiAuth, response, registerTest, startTime);
+        } catch (Exception e) {
+            return toErrorResponse(e, startTime);
+        }
+    }
 
-            // Adiciona headers
-            if (apiAuth.getHeaders() != null) {
-                apiAuth.getHeaders().forEach(requestBuilder::header);
-            }
+    /**
+     * Versão não bloqueante do teste de autenticação (HttpClient.sendAsync)
+     */
+    public CompletableFuture<ApiAuthenticationTestResponseDTO> testApiAuthenticationAsync(Long id) {
+        log.info("Testing API authentication (async) with ID: {}", id);
 
-            // Adiciona Content-Type
-            requestBuilder.header("Content-Type", apiAuth.getContentType().getValue());
-
-            // Adiciona body se existir
-            if (apiAuth.getRequestBody() != null && !apiAuth.getRequestBody().isEmpty()) {
-                String body;
-                
-                // Verifica o tipo de conteúdo para formatar o body corretamente
-                if (apiAuth.getContentType().getValue().contains("application/x-www-form-urlencoded")) {
-                    // Formato: key1=value1&key2=value2
-                    body = apiAuth.getRequestBody().entrySet().stream()
-                            .map(entry -> entry.getKey() + "=" + entry.getValue())
-                            .collect(Collectors.joining("&"));
-                } else {
-                    // Formato JSON para outros content types
-                    body = objectMapper.writeValueAsString(apiAuth.getRequestBody());
-                }
-                
-                requestBuilder.POST(HttpRequest.BodyPublishers.ofString(body));
-            } else {
-                requestBuilder.POST(HttpRequest.BodyPublishers.noBody());
-            }
+        ApiAuthentication apiAuth = apiAuthenticationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("API authentication não encontrada"));
+
+        long startTime = System.currentTimeMillis();
+
+        HttpRequest request;
+        try {
+            request = buildAuthenticationRequest(apiAuth);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(toErrorResponse(e, startTime));
+        }
+
+        long start = System.nanoTime();
+        return integrationHttpClientRegistry.getDefaultClient().sendAsync(request, bodyHandler())
+                .whenComplete((response, error) -> recordMetrics(request, response, error, start))
+                .thenApply(response -> toTestResponse(apiAuth, response, false, startTime))
+                .exceptionally(error -> toErrorResponse(
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error,
+                        startTime));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = integrationHttpClientRegistry.getDefaultClient()
+                    .send(request, bodyHandler());
+            recordMetrics(request, response, null, start);
+            return response;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            recordMetrics(request, null, e, start);
+            throw e;
+        }
+    }
 
-            HttpRequest request = requestBuilder.build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Autenticações usam o limite de tamanho de response padrão da aplicação
+     */
+    private HttpResponse.BodyHandler<String> bodyHandler() {
+        return integrationHttpClientRegistry.bodyHandler(integrationHttpClientRegistry.getDefaultSettings());
+    }
 
-            long endTime = System.currentTimeMillis();
+    private void recordMetrics(HttpRequest request, HttpResponse<String> response, Throwable error, long startNanos) {
+        outboundHttpMetrics.record(
+                OutboundHttpMetrics.CLIENT_AUTHENTICATION,
+                null,
+                null,
+                request.method(),
+                response != null ? response.statusCode() : 0,
+                error,
+                System.nanoTime() - startNanos,
+                request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L),
+                response != null ? OutboundHttpMetrics.utf8Length(response.body()) : 0);
+    }
 
-            Map<String, String> responseHeaders = new HashMap<>();
-            response.headers().map().forEach((key, values) -> 
-                responseHeaders.put(key, String.join(", ", values))
-            );
+    private HttpRequest buildAuthenticationRequest(ApiAuthentication apiAuth) throws Exception {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(apiAuth.getUrl()))
+                .timeout(integrationHttpClientRegistry.getDefaultSettings().getReadTimeout());
 
-            // Extrai campos do response JSON
-            Map<String, String> extractedFields = extractFieldsFromJson(response.body());
+        // Adiciona headers
+        if (apiAuth.getHeaders() != null) {
+            apiAuth.getHeaders().forEach(requestBuilder::header);
+        }
 
-            // Se registerTest=true, salva os campos extraídos na autenticação
-            if (registerTest && !extractedFields.isEmpty()) {
-                apiAuth.setResponseFields(extractedFields);
-                apiAuthenticationRepository.save(apiAuth);
-                log.info("Response fields registered for API authentication ID: {}", id);
+        // Adiciona Content-Type
+        requestBuilder.header("Content-Type", apiAuth.getContentType().getValue());
+
+        // Adiciona body se existir
+        if (apiAuth.getRequestBody() != null && !apiAuth.getRequestBody().isEmpty()) {
+            String body;
+            
+            // Verifica o tipo de conteúdo para formatar o body corretamente
+            if (apiAuth.getContentType().getValue().contains("application/x-www-form-urlencoded")) {
+                // Formato: key1=value1&key2=value2
+                body = apiAuth.getRequestBody().entrySet().stream()
+                        .map(entry -> entry.getKey() + "=" + entry.getValue())
+                        .collect(Collectors.joining("&"));
+            } else {
+                // Formato JSON para outros content types
+                body = objectMapper.writeValueAsString(apiAuth.getRequestBody());
             }
+            
+            requestBuilder.POST(HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            requestBuilder.POST(HttpRequest.BodyPublishers.noBody());
+        }
 
-            return ApiAuthenticationTestResponseDTO.builder()
-                    .success(response.statusCode() >= 200 && response.statusCode() < 300)
-                    .statusCode(response.statusCode())
-                    .statusMessage(getStatusMessage(response.statusCode()))
-                    .responseHeaders(responseHeaders)
-                    .responseBody(response.body())
-                    .extractedFields(extractedFields)
-                    .responseTimeMs(endTime - startTime)
-                    .build();
+        return requestBuilder.build();
+    }
 
-        } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            log.error("Error testing API authentication: {}", e.getMessage());
-
-            return ApiAuthenticationTestResponseDTO.builder()
-                    .success(false)
-                    .statusCode(0)
-                    .errorMessage(e.getMessage())
-                    .responseTimeMs(endTime - startTime)
-                    .build();
+    private ApiAuthenticationTestResponseDTO toTestResponse(
+            ApiAuthentication apiAuth,
+            HttpResponse<String> response,
+            boolean registerTest,
+            long startTime) {
+
+        long endTime = System.currentTimeMillis();
+
+        Map<String, String> responseHeaders = new HashMap<>();
+        response.headers().map().forEach((key, values) -> 
+            responseHeaders.put(key, String.join(", ", values))
+        );
+
+        // Extrai campos do response JSON
+        Map<String, String> extractedFields = jsonSchemaInferrer.infer(response.body());
+
+        // Se registerTest=true, salva os campos extraídos na autenticação
+        if (registerTest && !extractedFields.isEmpty()) {
+            apiAuth.setResponseFields(extractedFields);
+            apiAuthenticationRepository.save(apiAuth);
+            log.info("Response fields registered for API authentication ID: {}", apiAuth.getId());
         }
+
+        return ApiAuthenticationTestResponseDTO.builder()
+                .success(response.statusCode() >= 200 && response.statusCode() < 300)
+                .statusCode(response.statusCode())
+                .statusMessage(getStatusMessage(response.statusCode()))
+                .responseHeaders(responseHeaders)
+                .responseBody(response.body())
+                .extractedFields(extractedFields)
+                .responseTimeMs(endTime - startTime)
+                .build();
     }
 
-    private String getStatusMessage(int statusCode) {
-        return switch (statusCode) {
-            case 200 -> "OK";
-            case 201 -> "Created";
-            case 204 -> "No Content";
-            case 400 -> "Bad Request";
-            case 401 -> "Unauthorized";
-            case 403 -> "Forbidden";
-            case 404 -> "Not Found";
-            case 500 -> "Internal Server Error";
-            default -> "Status " + statusCode;
-        };
+    private ApiAuthenticationTestResponseDTO toErrorResponse(Throwable e, long startTime) {
+        long endTime = System.currentTimeMillis();
+        log.error("Error testing API authentication: {}", e.getMessage());
+
+        return ApiAuthenticationTestResponseDTO.builder()
+                .success(false)
+                .statusCode(0)
+                .errorMessage(e.getMessage())
+                .responseTimeMs(endTime - startTime)
+                .build();
     }
 
-    private Map<String, String> extractFieldsFromJson(String jsonBody) {
-        Map<String, String> fields = new HashMap<>();
-        
-        if (jsonBody == null || jsonBody.trim().isEmpty()) {
-            return fields;
+    /**
+     * Retorna os dados de autenticação achatados (ex: access_token, data.token),
+     * reaproveitando o cache enquanto o token estiver válido
+     */
+    public Map<String, Object> getAuthenticationData(Long id) {
+        return tokenCache.getOrLoad(id, () -> fetchAuthenticationData(id));
+    }
+
+    /**
+     * Versão não bloqueante de getAuthenticationData, compartilhando o mesmo cache e single-flight
+     */
+    public CompletableFuture<Map<String, Object>> getAuthenticationDataAsync(Long id) {
+        return tokenCache.getOrLoadAsync(id, () -> testApiAuthenticationAsync(id).thenApply(this::toAuthenticationData));
+    }
+
+    /**
+     * Força uma nova autenticação, compartilhando a chamada com outras que estejam em andamento
+     */
+    public Map<String, Object> refreshAuthenticationData(Long id) {
+        return tokenCache.load(id, () -> fetchAuthenticationData(id));
+    }
+
+    /**
+     * Descarta o token em cache, forçando nova autenticação na próxima chamada
+     */
+    public void invalidateAuthenticationData(Long id) {
+        tokenCache.evict(id);
+    }
+
+    private Map<String, Object> fetchAuthenticationData(Long id) {
+        log.info("Executing authentication test for authentication ID: {}", id);
+        return toAuthenticationData(testApiAuthentication(id, false));
+    }
+
+    private Map<String, Object> toAuthenticationData(ApiAuthenticationTestResponseDTO authTestResponse) {
+        if (!authTestResponse.isSuccess()) {
+            log.warn("Authentication test failed with status: {}", authTestResponse.getStatusCode());
+            return new HashMap<>();
+        }
+
+        Map<String, Object> authResponseData = parseAuthenticationResponse(authTestResponse.getResponseBody());
+        log.info("Authentication test successful. Extracted {} fields", authResponseData.size());
+        return authResponseData;
+    }
+
+    private Map<String, Object> parseAuthenticationResponse(String responseBody) {
+        Map<String, Object> result = new HashMap<>();
+        if (responseBody == null || responseBody.trim().isEmpty()) {
+            return result;
         }
 
         try {
-            Object parsed = objectMapper.readValue(jsonBody, Object.class);
-            extractFieldsRecursive(parsed, "", fields);
+            // Parse JSON response
+            @SuppressWarnings("unchecked")
+            Map<String, Object> jsonMap = objectMapper.readValue(responseBody, Map.class);
+            flattenMap("", jsonMap, result);
         } catch (Exception e) {
-            log.warn("Failed to parse JSON response: {}", e.getMessage());
+            log.warn("Failed to parse authentication response: {}", e.getMessage());
         }
 
-        return fields;
+        return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private void extractFieldsRecursive(Object obj, String prefix, Map<String, String> fields) {
-        if (obj == null) {
-            fields.put(prefix.isEmpty() ? "null" : prefix, "null");
-            return;
-        }
-
-        if (obj instanceof Map) {
-            Map<String, Object> map = (Map<String, Object>) obj;
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
-                String key = entry.getKey();
-                String newPrefix = prefix.isEmpty() ? key : prefix + "." + key;
-                extractFieldsRecursive(entry.getValue(), newPrefix, fields);
-            }
-        } else if (obj instanceof List) {
-            List<?> list = (List<?>) obj;
-            if (!list.isEmpty()) {
-                // Para arrays, usa o formato: campo[]
-                String arrayPrefix = prefix + "[]";
-                extractFieldsRecursive(list.get(0), arrayPrefix, fields);
+    private void flattenMap(String prefix, Map<String, Object> map, Map<String, Object> result) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
+            Object value = entry.getValue();
+
+            if (value instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> nestedMap = (Map<String, Object>) value;
+                flattenMap(key, nestedMap, result);
+            } else if (value instanceof List) {
+                result.put(key, value);
+                // Também adiciona elementos individuais se for lista de objetos simples
+                List<?> list = (List<?>) value;
+                for (int i = 0; i < list.size(); i++) {
+                    result.put(key + "[" + i + "]", list.get(i));
+                }
             } else {
-                fields.put(prefix + "[]", "array");
+                result.put(key, value);
             }
-        } else {
-            // Determina o tipo do valor
-            String type = determineType(obj);
-            fields.put(prefix, type);
         }
     }
 
-    private String determineType(Object value) {
-        if (value == null) {
-            return "null";
-        } else if (value instanceof String) {
-            return "string";
-        } else if (value instanceof Integer || value instanceof Long) {
-            return "integer";
-        } else if (value instanceof Double || value instanceof Float) {
-            return "number";
-        } else if (value instanceof Boolean) {
-            return "boolean";
-        } else {
-            return "object";
-        }
+    private String getStatusMessage(int statusCode) {
+        return switch (statusCode) {
+            case 200 -> "OK";
+            case 201 -> "Created";
+            case 204 -> "No Content";
+            case 400 -> "Bad Request";
+            case 401 -> "Unauthorized";
+            case 403 -> "Forbidden";
+            case 404 -> "Not Found";
+            case 500 -> "Internal Server Error";
+            default -> "Status " + statusCode;
+        };
     }
 
     private ApiAuthenticationResponseDTO mapToResponseDTO(ApiAuthentication apiAuth) {
@@ -0,0 +1,344 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Cache dos dados de autenticação (response achatado) por ApiAuthentication.
+ * Respeita expires_in / exp quando presentes no response e usa um TTL padrão caso contrário.
+ * Autenticações concorrentes para o mesmo ID são coalescidas em uma única chamada (single-flight).
+ */
+@Component
+@Slf4j
+public class ApiAuthenticationTokenCache {
+
+    private final Map<Long, CachedToken> cache = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Duration defaultTtl;
+    private final Duration expirySkew;
+    private final Duration loadTimeout;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredCounter;
+    private final Counter evictionCounter;
+    private final Counter coalescedCounter;
+
+    public ApiAuthenticationTokenCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${request.auth-cache.default-ttl-seconds:300}") long defaultTtlSeconds,
+            @Value("${request.auth-cache.expiry-skew-seconds:30}") long expirySkewSeconds,
+            @Value("${request.auth-cache.load-timeout-seconds:35}") long loadTimeoutSeconds) {
+        this.objectMapper = objectMapper;
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.expirySkew = Duration.ofSeconds(expirySkewSeconds);
+        this.loadTimeout = Duration.ofSeconds(loadTimeoutSeconds);
+        this.hitCounter = Counter.builder("request.auth.cache")
+                .description("Consultas ao cache de autenticação")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("request.auth.cache")
+                .description("Consultas ao cache de autenticação")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("request.auth.cache")
+                .description("Consultas ao cache de autenticação")
+                .tag("result", "expired")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("request.auth.cache.evictions")
+                .description("Tokens removidos do cache antes da expiração")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("request.auth.cache.coalesced")
+                .description("Chamadas que aguardaram uma autenticação já em andamento")
+                .register(meterRegistry);
+        Gauge.builder("request.auth.cache.size", cache, Map::size)
+                .description("Quantidade de autenticações em cache")
+                .register(meterRegistry);
+        Gauge.builder("request.auth.cache.stale", this, ApiAuthenticationTokenCache::countStale)
+                .description("Tokens em cache já expirados (não renovados a tempo)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna os dados em cache se ainda estiverem válidos
+     */
+    public Optional<Map<String, Object>> get(Long authenticationId) {
+        Instant now = Instant.now();
+        CachedToken token = cache.get(authenticationId);
+        if (token == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        token.setLastAccessedAt(now);
+        if (token.isExpired(now)) {
+            // Nunca entrega token expirado: conta como staleness e força nova autenticação
+            expiredCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(token.getData());
+    }
+
+    /**
+     * Retorna os dados em cache ou executa o loader, compartilhando a execução entre chamadas concorrentes
+     */
+    public Map<String, Object> getOrLoad(Long authenticationId, Supplier<Map<String, Object>> loader) {
+        return get(authenticationId).orElseGet(() -> load(authenticationId, loader));
+    }
+
+    /**
+     * Executa o loader ignorando o cache. Se já existir uma autenticação em andamento para o mesmo ID,
+     * aguarda e reaproveita o resultado dela (inclusive falhas) em vez de disparar outra chamada.
+     * Resultados não vazios são armazenados no cache.
+     */
+    public Map<String, Object> load(Long authenticationId, Supplier<Map<String, Object>> loader) {
+        CompletableFuture<Map<String, Object>> flight = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> existing = inFlight.putIfAbsent(authenticationId, flight);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.debug("Waiting in-flight authentication for ID {}", authenticationId);
+            return await(authenticationId, existing);
+        }
+
+        try {
+            Map<String, Object> data = loader.get();
+            if (data != null && !data.isEmpty()) {
+                put(authenticationId, data);
+            }
+            flight.complete(data);
+            return data;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(authenticationId, flight);
+        }
+    }
+
+    /**
+     * Versão não bloqueante de getOrLoad
+     */
+    public CompletableFuture<Map<String, Object>> getOrLoadAsync(
+            Long authenticationId,
+            Supplier<CompletableFuture<Map<String, Object>>> loader) {
+        return get(authenticationId)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> loadAsync(authenticationId, loader));
+    }
+
+    /**
+     * Versão não bloqueante de load. Compartilha o mesmo controle de chamadas em andamento,
+     * então chamadas síncronas e assíncronas para o mesmo ID também são coalescidas entre si.
+     */
+    public CompletableFuture<Map<String, Object>> loadAsync(
+            Long authenticationId,
+            Supplier<CompletableFuture<Map<String, Object>>> loader) {
+        CompletableFuture<Map<String, Object>> flight = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> existing = inFlight.putIfAbsent(authenticationId, flight);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.debug("Joining in-flight authentication for ID {}", authenticationId);
+            // copy() evita que o timeout deste chamador complete o future compartilhado
+            return existing.copy().orTimeout(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        CompletableFuture<Map<String, Object>> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(authenticationId, flight);
+            flight.completeExceptionally(e);
+            return flight;
+        }
+
+        loading.whenComplete((data, error) -> {
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                if (data != null && !data.isEmpty()) {
+                    put(authenticationId, data);
+                }
+                flight.complete(data);
+            }
+            inFlight.remove(authenticationId, flight);
+        });
+        return flight.copy();
+    }
+
+    private Map<String, Object> await(Long authenticationId, CompletableFuture<Map<String, Object>> flight) {
+        try {
+            return flight.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Tempo esgotado aguardando autenticação ID: " + authenticationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando autenticação ID: " + authenticationId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Falha na autenticação ID: " + authenticationId, e.getCause());
+        }
+    }
+
+    /**
+     * Armazena os dados de autenticação calculando a expiração a partir do próprio response
+     */
+    public void put(Long authenticationId, Map<String, Object> data) {
+        Instant now = Instant.now();
+        Instant expiresAt = resolveExpiration(data, now).minus(expirySkew);
+        if (!expiresAt.isAfter(now)) {
+            log.debug("Authentication ID {} expires too soon to be cached", authenticationId);
+            cache.remove(authenticationId);
+            return;
+        }
+        CachedToken previous = cache.get(authenticationId);
+        Instant lastAccessedAt = previous != null ? previous.getLastAccessedAt() : now;
+        cache.put(authenticationId, new CachedToken(Collections.unmodifiableMap(data), now, expiresAt, lastAccessedAt));
+        log.debug("Authentication ID {} cached until {}", authenticationId, expiresAt);
+    }
+
+    /**
+     * Remove os dados de autenticação do cache (ex: 401 no destino ou alteração cadastral)
+     */
+    public void evict(Long authenticationId) {
+        if (cache.remove(authenticationId) != null) {
+            evictionCounter.increment();
+            log.info("Authentication ID {} evicted from cache", authenticationId);
+        }
+    }
+
+    /**
+     * Remove o token se já tiver expirado (ex: renovação em background falhou); retorna se removeu
+     */
+    public boolean evictIfExpired(Long authenticationId) {
+        Instant now = Instant.now();
+        return cache.computeIfPresent(authenticationId, (id, token) -> token.isExpired(now) ? null : token) == null;
+    }
+
+    /**
+     * IDs usados dentro da janela informada cujo token expira (ou já expirou) antes do horizonte de renovação.
+     * Tokens com validade menor ou igual ao horizonte já nascem dentro dele e ficam de fora:
+     * renová-los geraria uma nova autenticação a cada varredura.
+     */
+    public List<Long> findRefreshCandidates(Duration refreshAhead, Duration recentUseWindow) {
+        Instant now = Instant.now();
+        Instant horizon = now.plus(refreshAhead);
+        Instant usedSince = now.minus(recentUseWindow);
+        return cache.entrySet().stream()
+                .filter(entry -> entry.getValue().getLastAccessedAt().isAfter(usedSince))
+                .filter(entry -> entry.getValue().getLifetime().compareTo(refreshAhead) > 0)
+                .filter(entry -> !entry.getValue().getExpiresAt().isAfter(horizon))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private double countStale() {
+        Instant now = Instant.now();
+        return cache.values().stream().filter(token -> token.isExpired(now)).count();
+    }
+
+    private Instant resolveExpiration(Map<String, Object> data, Instant now) {
+        Long expiresIn = toLong(data.get("expires_in"));
+        if (expiresIn == null) {
+            expiresIn = toLong(data.get("expiresIn"));
+        }
+        if (expiresIn != null && expiresIn > 0) {
+            return now.plusSeconds(expiresIn);
+        }
+
+        Long exp = toLong(data.get("exp"));
+        if (exp == null) {
+            exp = readJwtExpiration(data.get("access_token"));
+        }
+        if (exp != null && exp > 0) {
+            return Instant.ofEpochSecond(exp);
+        }
+
+        return now.plus(defaultTtl);
+    }
+
+    private Long readJwtExpiration(Object token) {
+        if (!(token instanceof String jwt)) {
+            return null;
+        }
+        String[] parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> claims = objectMapper.readValue(new String(payload, StandardCharsets.UTF_8), Map.class);
+            return toLong(claims.get("exp"));
+        } catch (Exception e) {
+            log.debug("Access token is not a readable JWT: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Getter
+    private static class CachedToken {
+        private final Map<String, Object> data;
+        private final Instant fetchedAt;
+        private final Instant expiresAt;
+        private volatile Instant lastAccessedAt;
+
+        CachedToken(Map<String, Object> data, Instant fetchedAt, Instant expiresAt, Instant lastAccessedAt) {
+            this.data = data;
+            this.fetchedAt = fetchedAt;
+            this.expiresAt = expiresAt;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        void setLastAccessedAt(Instant lastAccessedAt) {
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        Duration getLifetime() {
+            return Duration.between(fetchedAt, expiresAt);
+        }
+
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
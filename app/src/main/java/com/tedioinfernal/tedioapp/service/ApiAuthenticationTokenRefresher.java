@@ -0,0 +1,140 @@
+package com.tedioinfernal.tedioapp.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renova em background (refresh-ahead) os tokens de autenticação usados recentemente,
+ * pouco antes de expirarem, para que o primeiro request após a expiração não pague a latência da autenticação.
+ * Falhas na renovação são repetidas com backoff exponencial por ID; se o token expirar sem renovação
+ * ele sai do cache e a próxima chamada autentica normalmente.
+ */
+@Component
+@ConditionalOnProperty(name = "request.auth-cache.refresh.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ApiAuthenticationTokenRefresher {
+
+    private final ApiAuthenticationTokenCache tokenCache;
+    private final ApiAuthenticationService apiAuthenticationService;
+    private final Duration refreshAhead;
+    private final Duration recentUseWindow;
+    private final long maxJitterMs;
+    private final Duration retryBase;
+    private final Duration retryMax;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final Map<Long, RefreshFailure> failures = new ConcurrentHashMap<>();
+
+    public ApiAuthenticationTokenRefresher(
+            ApiAuthenticationTokenCache tokenCache,
+            ApiAuthenticationService apiAuthenticationService,
+            @Value("${request.auth-cache.refresh.ahead-seconds:60}") long refreshAheadSeconds,
+            @Value("${request.auth-cache.refresh.recent-use-seconds:900}") long recentUseSeconds,
+            @Value("${request.auth-cache.refresh.max-jitter-ms:10000}") long maxJitterMs,
+            @Value("${request.auth-cache.refresh.pool-size:2}") int poolSize,
+            @Value("${request.auth-cache.refresh.retry-base-seconds:5}") long retryBaseSeconds,
+            @Value("${request.auth-cache.refresh.retry-max-seconds:300}") long retryMaxSeconds) {
+        this.tokenCache = tokenCache;
+        this.apiAuthenticationService = apiAuthenticationService;
+        this.refreshAhead = Duration.ofSeconds(refreshAheadSeconds);
+        this.recentUseWindow = Duration.ofSeconds(recentUseSeconds);
+        this.maxJitterMs = maxJitterMs;
+        this.retryBase = Duration.ofSeconds(retryBaseSeconds);
+        this.retryMax = Duration.ofSeconds(retryMaxSeconds);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "auth-token-refresh-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Verifica periodicamente os tokens próximos da expiração e agenda a renovação com jitter
+     */
+    @Scheduled(fixedDelayString = "${request.auth-cache.refresh.scan-interval-ms:5000}")
+    public void scheduleRefreshes() {
+        Instant now = Instant.now();
+        for (Long authenticationId : tokenCache.findRefreshCandidates(refreshAhead, recentUseWindow)) {
+            RefreshFailure failure = failures.get(authenticationId);
+            if (failure != null && now.isBefore(failure.getRetryAt())) {
+                continue;
+            }
+            if (!scheduled.add(authenticationId)) {
+                continue;
+            }
+            long jitter = maxJitterMs > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMs) : 0;
+            log.debug("Scheduling refresh of authentication ID {} in {} ms", authenticationId, jitter);
+            executor.schedule(() -> refresh(authenticationId), jitter, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refresh(Long authenticationId) {
+        try {
+            Map<String, Object> data = apiAuthenticationService.refreshAuthenticationData(authenticationId);
+            if (data.isEmpty()) {
+                onFailure(authenticationId, "no data returned");
+            } else {
+                failures.remove(authenticationId);
+                log.info("Authentication ID {} refreshed in background", authenticationId);
+            }
+        } catch (Exception e) {
+            onFailure(authenticationId, e.getMessage());
+        } finally {
+            scheduled.remove(authenticationId);
+        }
+    }
+
+    /**
+     * Agenda a próxima tentativa com backoff exponencial; token já expirado é removido e deixa de ser renovado
+     */
+    private void onFailure(Long authenticationId, String reason) {
+        RefreshFailure previous = failures.get(authenticationId);
+        int attempts = previous != null ? previous.getAttempts() + 1 : 1;
+
+        if (tokenCache.evictIfExpired(authenticationId)) {
+            failures.remove(authenticationId);
+            log.error("Background refresh of authentication ID {} failed after expiration, removed from cache: {}",
+                    authenticationId, reason);
+            return;
+        }
+
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (delay.compareTo(retryMax) > 0) {
+            delay = retryMax;
+        }
+        failures.put(authenticationId, new RefreshFailure(attempts, Instant.now().plus(delay)));
+        log.error("Error refreshing authentication ID {} (attempt {}), next try in {} s: {}",
+                authenticationId, attempts, delay.toSeconds(), reason);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RefreshFailure {
+        private final int attempts;
+        private final Instant retryAt;
+    }
+}
@@ -0,0 +1,149 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.exception.ResponseTooLargeException;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Substituto de BodyHandlers.ofString() com limite de tamanho.
+ * Com Content-Length acima do limite só os primeiros captureBytes são lidos; sem Content-Length (ou se o destino mentir),
+ * a leitura é interrompida assim que o limite é ultrapassado. Nos dois casos a assinatura é cancelada,
+ * o que fecha a conexão em vez de consumir o restante, e o body falha com ResponseTooLargeException
+ * contendo os primeiros captureBytes recebidos.
+ */
+public class BoundedBodyHandler implements HttpResponse.BodyHandler<String> {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final long maxBytes;
+    private final int captureBytes;
+
+    public BoundedBodyHandler(long maxBytes, int captureBytes) {
+        this.maxBytes = maxBytes;
+        this.captureBytes = captureBytes;
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<String> apply(HttpResponse.ResponseInfo responseInfo) {
+        return new BoundedBodySubscriber(responseInfo);
+    }
+
+    private class BoundedBodySubscriber implements HttpResponse.BodySubscriber<String> {
+
+        private final HttpResponse.ResponseInfo responseInfo;
+        private final long declaredLength;
+        private final boolean declaredTooLarge;
+        private final long readLimit;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final ByteArrayOutputStream buffer;
+        private Flow.Subscription subscription;
+
+        BoundedBodySubscriber(HttpResponse.ResponseInfo responseInfo) {
+            this.responseInfo = responseInfo;
+            this.declaredLength = responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            // Content-Length já acima do limite: lê só a captura e aborta
+            this.declaredTooLarge = declaredLength > maxBytes;
+            this.readLimit = declaredTooLarge ? captureBytes : maxBytes;
+            this.buffer = new ByteArrayOutputStream(declaredLength >= 0 && declaredLength <= maxBytes
+                    ? (int) declaredLength
+                    : INITIAL_BUFFER_SIZE);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (declaredTooLarge && captureBytes <= 0) {
+                abort();
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (result.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                int remaining = item.remaining();
+                if (buffer.size() + (long) remaining > readLimit) {
+                    // Guarda só o que ainda cabe na captura antes de abortar
+                    int room = Math.max(0, captureBytes - buffer.size());
+                    byte[] chunk = new byte[Math.min(room, remaining)];
+                    item.get(chunk);
+                    buffer.write(chunk, 0, chunk.length);
+                    abort();
+                    return;
+                }
+                byte[] chunk = new byte[remaining];
+                item.get(chunk);
+                buffer.write(chunk, 0, remaining);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (declaredTooLarge) {
+                // Body terminou antes da captura: o Content-Length declarado continua acima do limite
+                abort();
+                return;
+            }
+            result.complete(buffer.toString(charset(responseInfo.headers())));
+        }
+
+        @Override
+        public CompletionStage<String> getBody() {
+            return result;
+        }
+
+        private void abort() {
+            subscription.cancel();
+            byte[] received = buffer.toByteArray();
+            int captured = Math.min(received.length, captureBytes);
+            result.completeExceptionally(new ResponseTooLargeException(
+                    responseInfo.statusCode(),
+                    toHeaderMap(responseInfo.headers()),
+                    new String(received, 0, captured, charset(responseInfo.headers())),
+                    received.length,
+                    maxBytes,
+                    declaredTooLarge));
+        }
+    }
+
+    private static Charset charset(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Map<String, String> toHeaderMap(HttpHeaders httpHeaders) {
+        Map<String, String> headers = new HashMap<>();
+        httpHeaders.map().forEach((key, values) -> headers.put(key, String.join(", ", values)));
+        return headers;
+    }
+}
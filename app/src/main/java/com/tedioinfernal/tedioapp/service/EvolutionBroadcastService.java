@@ -0,0 +1,387 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastProgressDTO;
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastRecipientDTO;
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastRequestDTO;
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastResponseDTO;
+import com.tedioinfernal.tedioapp.dto.EvolutionBroadcastResultDTO;
+import com.tedioinfernal.tedioapp.entity.EvolutionOutboundMessage;
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageStatus;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.text.dto.SendTextRequestDTO;
+import com.tedioinfernal.tedioapp.repository.EvolutionInstanceRepository;
+import com.tedioinfernal.tedioapp.repository.EvolutionOutboundMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Envio da mesma mensagem de texto (template com ${variavel}) para vários destinatários de uma instância.
+ * Cada destinatário vira uma mensagem da fila de saída (evolution_outbound_messages) com o mesmo broadcast_id,
+ * então o envio, o retry e o limite de mensagens em voo são os do EvolutionOutboundDispatcher, e o resultado
+ * de cada destinatário fica gravado. O SSE só acompanha: um evento "result" por destinatário concluído,
+ * "progress" periódico e "complete" no final. Se o cliente desconectar, os envios continuam e o resultado
+ * pode ser consultado depois pelo broadcastId.
+ */
+@Service
+@Slf4j
+public class EvolutionBroadcastService {
+
+    private static final Set<EvolutionMessageStatus> FINISHED = EnumSet.of(EvolutionMessageStatus.SENT, EvolutionMessageStatus.FAILED);
+    // Margem para relógios de réplicas diferentes ao buscar mensagens concluídas desde a última consulta
+    private static final Duration CLOCK_SLACK = Duration.ofSeconds(60);
+
+    private final EvolutionInstanceRepository evolutionInstanceRepository;
+    private final EvolutionOutboundMessageRepository evolutionOutboundMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter queuedCounter;
+    private final Counter invalidCounter;
+    private final int maxRecipients;
+    private final long progressIntervalMs;
+    private final long timeoutMs;
+    private final ScheduledExecutorService trackers;
+
+    public EvolutionBroadcastService(
+            EvolutionInstanceRepository evolutionInstanceRepository,
+            EvolutionOutboundMessageRepository evolutionOutboundMessageRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${evolution.broadcast.max-recipients:5000}") int maxRecipients,
+            @Value("${evolution.broadcast.progress-interval-ms:1000}") long progressIntervalMs,
+            @Value("${evolution.broadcast.timeout-ms:1800000}") long timeoutMs,
+            @Value("${evolution.broadcast.tracker-threads:2}") int trackerThreads) {
+        this.evolutionInstanceRepository = evolutionInstanceRepository;
+        this.evolutionOutboundMessageRepository = evolutionOutboundMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.maxRecipients = maxRecipients;
+        this.progressIntervalMs = progressIntervalMs;
+        this.timeoutMs = timeoutMs;
+        this.queuedCounter = recipientCounter(meterRegistry, "queued");
+        this.invalidCounter = recipientCounter(meterRegistry, "invalid");
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.trackers = Executors.newScheduledThreadPool(trackerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "evolution-broadcast-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Counter recipientCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("evolution.broadcast.recipients")
+                .description("Destinatários de envios em massa do Evolution")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira uma mensagem por destinatário e acompanha o andamento via SSE
+     */
+    public SseEmitter broadcast(EvolutionBroadcastRequestDTO requestDTO) {
+        List<EvolutionBroadcastRecipientDTO> recipients = requestDTO.getRecipients();
+        if (recipients.size() > maxRecipients) {
+            throw new RuntimeException("O número máximo de destinatários por envio é " + maxRecipients);
+        }
+        if (!evolutionInstanceRepository.existsById(requestDTO.getEvolutionInstanceId())) {
+            throw new RuntimeException("Evolution Instance não encontrada com ID: " + requestDTO.getEvolutionInstanceId());
+        }
+
+        UUID broadcastId = UUID.randomUUID();
+        LocalDateTime startedAt = LocalDateTime.now();
+        enqueue(broadcastId, requestDTO, startedAt);
+        log.info("Broadcast {} queued with {} recipients for Evolution Instance ID: {}",
+                broadcastId, recipients.size(), requestDTO.getEvolutionInstanceId());
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        BroadcastTracker tracker = new BroadcastTracker(broadcastId, recipients.size(), startedAt, emitter);
+        emitter.onCompletion(tracker::stop);
+        emitter.onTimeout(tracker::stop);
+        emitter.onError(error -> tracker.stop());
+        tracker.start();
+        return emitter;
+    }
+
+    /**
+     * Andamento e resultado por destinatário de um envio em massa (inclusive após o cliente do SSE desconectar)
+     */
+    public EvolutionBroadcastResponseDTO getBroadcast(UUID broadcastId) {
+        log.info("Fetching broadcast: {}", broadcastId);
+        List<EvolutionOutboundMessage> messages = evolutionOutboundMessageRepository.findByBroadcastIdOrderByBroadcastIndex(broadcastId);
+        if (messages.isEmpty()) {
+            throw new RuntimeException("Broadcast não encontrado com ID: " + broadcastId);
+        }
+
+        List<EvolutionBroadcastResultDTO> results = messages.stream()
+                .map(EvolutionBroadcastService::toResult)
+                .collect(Collectors.toList());
+        int sent = (int) messages.stream().filter(message -> message.getStatus() == EvolutionMessageStatus.SENT).count();
+        int failed = (int) messages.stream().filter(message -> message.getStatus() == EvolutionMessageStatus.FAILED).count();
+        LocalDateTime startedAt = messages.stream()
+                .map(EvolutionOutboundMessage::getCreatedAt)
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .orElse(LocalDateTime.now());
+        LocalDateTime endedAt = sent + failed < messages.size()
+                ? LocalDateTime.now()
+                : messages.stream()
+                        .map(EvolutionOutboundMessage::getUpdatedAt)
+                        .filter(Objects::nonNull)
+                        .max(LocalDateTime::compareTo)
+                        .orElse(LocalDateTime.now());
+
+        return EvolutionBroadcastResponseDTO.builder()
+                .broadcastId(broadcastId)
+                .progress(EvolutionBroadcastProgressDTO.builder()
+                        .broadcastId(broadcastId)
+                        .total(messages.size())
+                        .pending(messages.size() - sent - failed)
+                        .completed(sent + failed)
+                        .sent(sent)
+                        .failed(failed)
+                        .elapsedMs(Duration.between(startedAt, endedAt).toMillis())
+                        .build())
+                .results(results)
+                .build();
+    }
+
+    private void enqueue(UUID broadcastId, EvolutionBroadcastRequestDTO requestDTO, LocalDateTime now) {
+        VariableTemplate template = VariableTemplate.compile(requestDTO.getTemplate());
+        List<EvolutionBroadcastRecipientDTO> recipients = requestDTO.getRecipients();
+
+        List<BroadcastMessage> messages = new ArrayList<>(recipients.size());
+        for (int index = 0; index < recipients.size(); index++) {
+            EvolutionBroadcastRecipientDTO recipient = recipients.get(index);
+            Map<String, Object> variables = recipient.getVariables() != null ? recipient.getVariables() : Map.of();
+
+            // Variável sem valor não é enviada como "${nome}" para o destinatário: a mensagem já nasce FAILED
+            List<String> missing = template.getVariables().stream()
+                    .filter(variable -> variables.get(variable) == null)
+                    .distinct()
+                    .collect(Collectors.toList());
+            String text = missing.isEmpty() ? template.render(variables) : template.getSource();
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(SendTextRequestDTO.builder()
+                        .number(recipient.getNumber())
+                        .text(text)
+                        .build());
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Falha ao montar a mensagem do destinatário " + index + ": " + e.getMessage(), e);
+            }
+            messages.add(new BroadcastMessage(index, recipient.getNumber(), text, payload,
+                    missing.isEmpty() ? null : "Variáveis sem valor: " + String.join(", ", missing)));
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate("""
+                INSERT INTO evolution_outbound_messages
+                    (evolution_instance_id, message_type, number, message, payload, status, attempts, next_attempt_at,
+                     last_error, broadcast_id, broadcast_index, created_at, updated_at)
+                VALUES (?, 'TEXT', ?, ?, ?::jsonb, ?, 0, ?, ?, ?, ?, ?, ?)
+                """, messages, 500,
+                (ps, message) -> {
+                    ps.setLong(1, requestDTO.getEvolutionInstanceId());
+                    ps.setString(2, message.getNumber());
+                    ps.setString(3, message.getText());
+                    ps.setString(4, message.getPayload());
+                    ps.setString(5, message.getError() == null
+                            ? EvolutionMessageStatus.PENDING.name()
+                            : EvolutionMessageStatus.FAILED.name());
+                    ps.setTimestamp(6, timestamp);
+                    ps.setString(7, message.getError());
+                    ps.setObject(8, broadcastId);
+                    ps.setInt(9, message.getIndex());
+                    ps.setTimestamp(10, timestamp);
+                    ps.setTimestamp(11, timestamp);
+                }));
+
+        long invalid = messages.stream().filter(message -> message.getError() != null).count();
+        invalidCounter.increment(invalid);
+        queuedCounter.increment(messages.size() - invalid);
+    }
+
+    private static EvolutionBroadcastResultDTO toResult(EvolutionOutboundMessage message) {
+        return EvolutionBroadcastResultDTO.builder()
+                .index(message.getBroadcastIndex())
+                .messageId(message.getId())
+                .number(message.getNumber())
+                .status(message.getStatus())
+                .success(message.getStatus() == EvolutionMessageStatus.SENT)
+                .attempts(message.getAttempts())
+                .evolutionMessageId(message.getEvolutionMessageId())
+                .evolutionStatus(message.getEvolutionStatus())
+                .errorMessage(message.getLastError())
+                .sentAt(message.getSentAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trackers.shutdownNow();
+    }
+
+    /**
+     * Acompanha um envio em massa lendo a fila de saída; nunca interfere nos envios
+     */
+    private class BroadcastTracker {
+
+        private final UUID broadcastId;
+        private final int total;
+        private final long start = System.nanoTime();
+        private final SseEmitter emitter;
+        private final BitSet reported;
+        private LocalDateTime watermark;
+        private volatile ScheduledFuture<?> task;
+        private volatile boolean stopped;
+
+        BroadcastTracker(UUID broadcastId, int total, LocalDateTime startedAt, SseEmitter emitter) {
+            this.broadcastId = broadcastId;
+            this.total = total;
+            this.emitter = emitter;
+            this.reported = new BitSet(total);
+            this.watermark = startedAt.minus(CLOCK_SLACK);
+        }
+
+        void start() {
+            task = trackers.scheduleWithFixedDelay(this::poll, 0, progressIntervalMs, TimeUnit.MILLISECONDS);
+            if (stopped) {
+                task.cancel(false);
+            }
+        }
+
+        void stop() {
+            stopped = true;
+            ScheduledFuture<?> current = task;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+
+        private void poll() {
+            if (stopped) {
+                return;
+            }
+            try {
+                LocalDateTime since = watermark;
+                watermark = LocalDateTime.now().minus(CLOCK_SLACK);
+                reportFinished(evolutionOutboundMessageRepository
+                        .findByBroadcastIdAndStatusInAndUpdatedAtGreaterThanEqual(broadcastId, FINISHED, since));
+
+                EvolutionBroadcastProgressDTO progress = progress();
+                if (progress.getCompleted() == total && reported.cardinality() < total) {
+                    // Alguma conclusão ficou fora da janela de updated_at: reconcilia com a lista completa
+                    reportFinished(evolutionOutboundMessageRepository.findByBroadcastIdOrderByBroadcastIndex(broadcastId));
+                }
+                if (!send("progress", progress)) {
+                    return;
+                }
+                if (progress.getCompleted() == total) {
+                    log.info("Broadcast {} finished: {} sent, {} failed", broadcastId, progress.getSent(), progress.getFailed());
+                    if (send("complete", progress)) {
+                        emitter.complete();
+                    }
+                    stop();
+                }
+            } catch (Exception e) {
+                log.error("Failed to track broadcast {}: {}", broadcastId, e.getMessage());
+            }
+        }
+
+        private void reportFinished(List<EvolutionOutboundMessage> messages) {
+            for (EvolutionOutboundMessage message : messages) {
+                int index = message.getBroadcastIndex();
+                if (!FINISHED.contains(message.getStatus()) || reported.get(index)) {
+                    continue;
+                }
+                if (!send("result", toResult(message))) {
+                    return;
+                }
+                reported.set(index);
+            }
+        }
+
+        private EvolutionBroadcastProgressDTO progress() {
+            int sent = 0;
+            int failed = 0;
+            for (Object[] row : evolutionOutboundMessageRepository.countByStatus(broadcastId)) {
+                EvolutionMessageStatus status = (EvolutionMessageStatus) row[0];
+                int count = ((Number) row[1]).intValue();
+                if (status == EvolutionMessageStatus.SENT) {
+                    sent = count;
+                } else if (status == EvolutionMessageStatus.FAILED) {
+                    failed = count;
+                }
+            }
+            return EvolutionBroadcastProgressDTO.builder()
+                    .broadcastId(broadcastId)
+                    .total(total)
+                    .pending(total - sent - failed)
+                    .completed(sent + failed)
+                    .sent(sent)
+                    .failed(failed)
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .build();
+        }
+
+        /**
+         * Envia um evento SSE; se o cliente desconectou, para de acompanhar (os envios continuam na fila)
+         */
+        private boolean send(String name, Object data) {
+            if (stopped) {
+                return false;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.info("Broadcast {} client disconnected, messages keep being dispatched from the outbox", broadcastId);
+                stop();
+                return false;
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class BroadcastMessage {
+        private final int index;
+        private final String number;
+        private final String text;
+        private final String payload;
+        private final String error;
+    }
+}
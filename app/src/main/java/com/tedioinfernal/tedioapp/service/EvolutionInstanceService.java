@@ -184,8 +184,7 @@ public class EvolutionInstanceService {
             // 1. Deleta da API Evolution
             log.info("Deleting instance from Evolution API: {}", instance.getInstanceName());
             DeleteInstanceResponseDTO apiResponse = evolutionInstanceDeleteClient.deleteInstance(
-                    instance.getEvolution().getUrl(),
-                    instance.getEvolution().getApiKey(),
+                    instance.getEvolution(),
                     instance.getInstanceName()
             );
             log.info("Instance deleted from API successfully: {} - Status: {}", 
@@ -222,8 +221,7 @@ public class EvolutionInstanceService {
         try {
             // Chama API Evolution para conectar e obter QR Code
             ConnectResponseDTO response = evolutionInstanceConnectClient.connect(
-                    instance.getEvolution().getUrl(),
-                    instance.getEvolution().getApiKey(),
+                    instance.getEvolution(),
                     instance.getInstanceName()
             );
 
@@ -258,8 +256,7 @@ public class EvolutionInstanceService {
         try {
             // Chama API Evolution para obter estado da conexão
             ConnectionStateDTO response = evolutionInstanceConnectionClient.getConnectionState(
-                    instance.getEvolution().getUrl(),
-                    instance.getEvolution().getApiKey(),
+                    instance.getEvolution(),
                     instance.getInstanceName()
             );
 
@@ -296,8 +293,7 @@ public class EvolutionInstanceService {
         try {
             // Chama API Evolution para configurar webhook
             evolutionWebhookClient.setWebhook(
-                    instance.getEvolution().getUrl(),
-                    instance.getEvolution().getApiKey(),
+                    instance.getEvolution(),
                     instance.getInstanceName(),
                     requestDTO.getWebhookUrl()
             );
@@ -340,8 +336,7 @@ public class EvolutionInstanceService {
         try {
             // Chama API Evolution para fazer logout
             LogoutResponseDTO response = evolutionInstanceLogoutClient.logout(
-                    instance.getEvolution().getUrl(),
-                    instance.getEvolution().getApiKey(),
+                    instance.getEvolution(),
                     instance.getInstanceName()
             );
 
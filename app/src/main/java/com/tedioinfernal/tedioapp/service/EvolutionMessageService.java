@@ -1,108 +1,71 @@
 package com.tedioinfernal.tedioapp.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tedioinfernal.tedioapp.dto.EvolutionMessageRequestDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionMessageResponseDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionMediaMessageRequestDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionAudioMessageRequestDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionStickerMessageRequestDTO;
 import com.tedioinfernal.tedioapp.entity.EvolutionInstance;
+import com.tedioinfernal.tedioapp.entity.EvolutionOutboundMessage;
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageType;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.text.dto.SendTextRequestDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.text.dto.SendTextResponseDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.text.service.EvolutionTextMessageService;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.media.dto.SendMediaRequestDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.media.dto.SendMediaResponseDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.media.service.EvolutionMediaMessageService;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.dto.SendAudioRequestDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.dto.SendAudioResponseDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.service.EvolutionAudioMessageService;
 import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.dto.SendStickerRequestDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.dto.SendStickerResponseDTO;
-import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.service.EvolutionStickerMessageService;
 import com.tedioinfernal.tedioapp.repository.EvolutionInstanceRepository;
+import com.tedioinfernal.tedioapp.repository.EvolutionOutboundMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Envio de mensagens via Evolution.
+ * As mensagens não são enviadas dentro da requisição: entram na fila persistente (evolution_outbound_messages)
+ * e são despachadas em background pelo EvolutionOutboundDispatcher, com retry. O andamento é consultado pelo ID.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EvolutionMessageService {
 
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() { };
+
     private final EvolutionInstanceRepository evolutionInstanceRepository;
-    private final EvolutionTextMessageService evolutionTextMessageService;
-    private final EvolutionMediaMessageService evolutionMediaMessageService;
-    private final EvolutionAudioMessageService evolutionAudioMessageService;
-    private final EvolutionStickerMessageService evolutionStickerMessageService;
+    private final EvolutionOutboundMessageRepository evolutionOutboundMessageRepository;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Envia mensagem de texto via Evolution
-     * 1. Busca EvolutionInstance
-     * 2. Chama integração Evolution para enviar mensagem
-     * 3. Retorna response simplificado
+     * Enfileira mensagem de texto para envio via Evolution
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public EvolutionMessageResponseDTO sendMessage(EvolutionMessageRequestDTO requestDTO) {
-        
-        log.info("Sending message to {} via Evolution Instance ID: {}", 
-                requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
-        // Busca EvolutionInstance configurada
-        EvolutionInstance evolutionInstance = evolutionInstanceRepository
-                .findById(requestDTO.getEvolutionInstanceId())
-                .orElseThrow(() -> new RuntimeException(
-                        "Evolution Instance não encontrada com ID: " + requestDTO.getEvolutionInstanceId()));
-
-        log.info("Using Evolution Instance: {} (Evolution: {})", 
-                evolutionInstance.getInstanceName(),
-                evolutionInstance.getEvolution().getNome());
+        log.info("Queueing message to {} via Evolution Instance ID: {}",
+                requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
-        // Prepara request para integração
         SendTextRequestDTO integrationRequest = SendTextRequestDTO.builder()
                 .number(requestDTO.getNumber())
                 .text(requestDTO.getMessage())
                 .build();
 
-        try {
-            // Chama integração Evolution para enviar mensagem
-            log.info("Calling Evolution API to send message...");
-            SendTextResponseDTO integrationResponse = 
-                    evolutionTextMessageService.sendText(evolutionInstance, integrationRequest);
-
-            log.info("Message sent successfully. Message ID: {}, Status: {}", 
-                    integrationResponse.getKey().getId(),
-                    integrationResponse.getStatus());
-
-            // Retorna response simplificado
-            return EvolutionMessageResponseDTO.builder()
-                    .number(requestDTO.getNumber())
-                    .message(requestDTO.getMessage())
-                    .status(integrationResponse.getStatus())
-                    .build();
-
-        } catch (Exception e) {
-            log.error("Error sending message: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha ao enviar mensagem: " + e.getMessage(), e);
-        }
+        return enqueue(requestDTO.getEvolutionInstanceId(), EvolutionMessageType.TEXT, requestDTO.getNumber(),
+                requestDTO.getMessage(), integrationRequest);
     }
 
     /**
-     * Envia mensagem de mídia via Evolution
+     * Enfileira mensagem de mídia para envio via Evolution
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public EvolutionMessageResponseDTO sendMedia(EvolutionMediaMessageRequestDTO requestDTO) {
-        
-        log.info("Sending media ({}) to {} via Evolution Instance ID: {}", 
-                requestDTO.getMediatype(), requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
-        EvolutionInstance evolutionInstance = evolutionInstanceRepository
-                .findById(requestDTO.getEvolutionInstanceId())
-                .orElseThrow(() -> new RuntimeException(
-                        "Evolution Instance não encontrada com ID: " + requestDTO.getEvolutionInstanceId()));
-
-        log.info("Using Evolution Instance: {} (Evolution: {})", 
-                evolutionInstance.getInstanceName(),
-                evolutionInstance.getEvolution().getNome());
+        log.info("Queueing media ({}) to {} via Evolution Instance ID: {}",
+                requestDTO.getMediatype(), requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
         SendMediaRequestDTO integrationRequest = SendMediaRequestDTO.builder()
                 .number(requestDTO.getNumber())
@@ -112,112 +75,103 @@ public class EvolutionMessageService {
                 .fileName(requestDTO.getFileName())
                 .build();
 
-        try {
-            log.info("Calling Evolution API to send media...");
-            SendMediaResponseDTO integrationResponse = 
-                    evolutionMediaMessageService.sendMedia(evolutionInstance, integrationRequest);
-
-            log.info("Media sent successfully. Message ID: {}, Status: {}", 
-                    integrationResponse.getKey().getId(),
-                    integrationResponse.getStatus());
-
-            return EvolutionMessageResponseDTO.builder()
-                    .number(requestDTO.getNumber())
-                    .message(requestDTO.getMediatype() + " - " + requestDTO.getFileName())
-                    .status(integrationResponse.getStatus())
-                    .build();
-
-        } catch (Exception e) {
-            log.error("Error sending media: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha ao enviar mídia: " + e.getMessage(), e);
-        }
+        return enqueue(requestDTO.getEvolutionInstanceId(), EvolutionMessageType.MEDIA, requestDTO.getNumber(),
+                requestDTO.getMediatype() + " - " + requestDTO.getFileName(), integrationRequest);
     }
 
     /**
-     * Envia mensagem de áudio via Evolution
+     * Enfileira mensagem de áudio para envio via Evolution
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public EvolutionMessageResponseDTO sendAudio(EvolutionAudioMessageRequestDTO requestDTO) {
-        
-        log.info("Sending audio to {} via Evolution Instance ID: {}", 
-                requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
-        EvolutionInstance evolutionInstance = evolutionInstanceRepository
-                .findById(requestDTO.getEvolutionInstanceId())
-                .orElseThrow(() -> new RuntimeException(
-                        "Evolution Instance não encontrada com ID: " + requestDTO.getEvolutionInstanceId()));
-
-        log.info("Using Evolution Instance: {} (Evolution: {})", 
-                evolutionInstance.getInstanceName(),
-                evolutionInstance.getEvolution().getNome());
+        log.info("Queueing audio to {} via Evolution Instance ID: {}",
+                requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
         SendAudioRequestDTO integrationRequest = SendAudioRequestDTO.builder()
                 .number(requestDTO.getNumber())
                 .audio(requestDTO.getAudio())
                 .build();
 
-        try {
-            log.info("Calling Evolution API to send audio...");
-            SendAudioResponseDTO integrationResponse = 
-                    evolutionAudioMessageService.sendAudio(evolutionInstance, integrationRequest);
-
-            log.info("Audio sent successfully. Message ID: {}, Status: {}", 
-                    integrationResponse.getKey().getId(),
-                    integrationResponse.getStatus());
-
-            return EvolutionMessageResponseDTO.builder()
-                    .number(requestDTO.getNumber())
-                    .message("Audio message")
-                    .status(integrationResponse.getStatus())
-                    .build();
-
-        } catch (Exception e) {
-            log.error("Error sending audio: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha ao enviar áudio: " + e.getMessage(), e);
-        }
+        return enqueue(requestDTO.getEvolutionInstanceId(), EvolutionMessageType.AUDIO, requestDTO.getNumber(),
+                "Audio message", integrationRequest);
     }
 
     /**
-     * Envia sticker via Evolution
+     * Enfileira sticker para envio via Evolution
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public EvolutionMessageResponseDTO sendSticker(EvolutionStickerMessageRequestDTO requestDTO) {
-        
-        log.info("Sending sticker to {} via Evolution Instance ID: {}", 
-                requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
-
-        EvolutionInstance evolutionInstance = evolutionInstanceRepository
-                .findById(requestDTO.getEvolutionInstanceId())
-                .orElseThrow(() -> new RuntimeException(
-                        "Evolution Instance não encontrada com ID: " + requestDTO.getEvolutionInstanceId()));
 
-        log.info("Using Evolution Instance: {} (Evolution: {})", 
-                evolutionInstance.getInstanceName(),
-                evolutionInstance.getEvolution().getNome());
+        log.info("Queueing sticker to {} via Evolution Instance ID: {}",
+                requestDTO.getNumber(), requestDTO.getEvolutionInstanceId());
 
         SendStickerRequestDTO integrationRequest = SendStickerRequestDTO.builder()
                 .number(requestDTO.getNumber())
                 .sticker(requestDTO.getSticker())
                 .build();
 
-        try {
-            log.info("Calling Evolution API to send sticker...");
-            SendStickerResponseDTO integrationResponse = 
-                    evolutionStickerMessageService.sendSticker(evolutionInstance, integrationRequest);
-
-            log.info("Sticker sent successfully. Message ID: {}, Status: {}", 
-                    integrationResponse.getKey().getId(),
-                    integrationResponse.getStatus());
-
-            return EvolutionMessageResponseDTO.builder()
-                    .number(requestDTO.getNumber())
-                    .message("Sticker message")
-                    .status(integrationResponse.getStatus())
-                    .build();
-
-        } catch (Exception e) {
-            log.error("Error sending sticker: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha ao enviar sticker: " + e.getMessage(), e);
-        }
+        return enqueue(requestDTO.getEvolutionInstanceId(), EvolutionMessageType.STICKER, requestDTO.getNumber(),
+                "Sticker message", integrationRequest);
+    }
+
+    /**
+     * Andamento de uma mensagem enfileirada
+     */
+    @Transactional(readOnly = true)
+    public EvolutionMessageResponseDTO getMessage(Long id) {
+        log.info("Fetching Evolution outbound message with ID: {}", id);
+        EvolutionOutboundMessage message = evolutionOutboundMessageRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Mensagem não encontrada com ID: " + id));
+        return mapToResponseDTO(message);
+    }
+
+    private EvolutionMessageResponseDTO enqueue(
+            Long evolutionInstanceId,
+            EvolutionMessageType type,
+            String number,
+            String summary,
+            Object integrationRequest) {
+
+        // Busca EvolutionInstance configurada (instância inexistente falha na hora, não na fila)
+        EvolutionInstance evolutionInstance = evolutionInstanceRepository
+                .findById(evolutionInstanceId)
+                .orElseThrow(() -> new RuntimeException(
+                        "Evolution Instance não encontrada com ID: " + evolutionInstanceId));
+
+        EvolutionOutboundMessage message = EvolutionOutboundMessage.builder()
+                .evolutionInstance(evolutionInstance)
+                .messageType(type)
+                .number(number)
+                .message(summary)
+                .payload(objectMapper.convertValue(integrationRequest, PAYLOAD_TYPE))
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        EvolutionOutboundMessage savedMessage = evolutionOutboundMessageRepository.save(message);
+        log.info("{} message queued with ID: {} for instance: {}", type, savedMessage.getId(),
+                evolutionInstance.getInstanceName());
+
+        return mapToResponseDTO(savedMessage);
+    }
+
+    private EvolutionMessageResponseDTO mapToResponseDTO(EvolutionOutboundMessage message) {
+        return EvolutionMessageResponseDTO.builder()
+                .id(message.getId())
+                .evolutionInstanceId(message.getEvolutionInstance().getId())
+                .type(message.getMessageType())
+                .number(message.getNumber())
+                .message(message.getMessage())
+                .status(message.getStatus())
+                .attempts(message.getAttempts())
+                .nextAttemptAt(message.getNextAttemptAt())
+                .lastError(message.getLastError())
+                .evolutionMessageId(message.getEvolutionMessageId())
+                .evolutionStatus(message.getEvolutionStatus())
+                .sentAt(message.getSentAt())
+                .broadcastId(message.getBroadcastId())
+                .createdAt(message.getCreatedAt())
+                .updatedAt(message.getUpdatedAt())
+                .build();
     }
 }
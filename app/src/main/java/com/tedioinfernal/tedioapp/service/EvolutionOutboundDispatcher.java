@@ -0,0 +1,316 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tedioinfernal.tedioapp.entity.Evolution;
+import com.tedioinfernal.tedioapp.entity.EvolutionInstance;
+import com.tedioinfernal.tedioapp.enums.EvolutionMessageType;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.dto.SendAudioRequestDTO;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.audio.service.EvolutionAudioMessageService;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.media.dto.SendMediaRequestDTO;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.media.service.EvolutionMediaMessageService;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.dto.SendStickerRequestDTO;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.sticker.service.EvolutionStickerMessageService;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.text.dto.SendTextRequestDTO;
+import com.tedioinfernal.tedioapp.integrations.evolution.message.text.service.EvolutionTextMessageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Despacha a fila de saída do Evolution (evolution_outbound_messages).
+ * Com várias réplicas, cada mensagem é reivindicada por uma só: SELECT ... FOR UPDATE SKIP LOCKED e, na mesma
+ * transação, status SENDING com next_attempt_at = fim do lease. Se a réplica cair no meio do envio, o lease expira
+ * e a mensagem volta a ser reivindicada (entrega ao menos uma vez).
+ * O envio usa os métodos *Async das integrações, então as mensagens em andamento não ocupam threads;
+ * o limite é de mensagens em voo por réplica. Falhas voltam para PENDING com backoff exponencial até
+ * evolution.outbox.max-attempts; erros 4xx do Evolution (exceto 408 e 429) falham na hora.
+ * O resultado só é gravado se a mensagem ainda estiver SENDING na tentativa reivindicada: uma réplica que
+ * passou do lease não sobrescreve o que outra já reivindicou ou marcou como SENT.
+ */
+@Component
+@ConditionalOnProperty(name = "evolution.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EvolutionOutboundDispatcher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EvolutionTextMessageService evolutionTextMessageService;
+    private final EvolutionMediaMessageService evolutionMediaMessageService;
+    private final EvolutionAudioMessageService evolutionAudioMessageService;
+    private final EvolutionStickerMessageService evolutionStickerMessageService;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final Duration dispatchTimeout;
+    private final Duration lease;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public EvolutionOutboundDispatcher(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            EvolutionTextMessageService evolutionTextMessageService,
+            EvolutionMediaMessageService evolutionMediaMessageService,
+            EvolutionAudioMessageService evolutionAudioMessageService,
+            EvolutionStickerMessageService evolutionStickerMessageService,
+            MeterRegistry meterRegistry,
+            @Value("${evolution.outbox.max-in-flight:32}") int maxInFlight,
+            @Value("${evolution.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${evolution.outbox.dispatch-timeout-ms:30000}") long dispatchTimeoutMs,
+            @Value("${evolution.outbox.lease-ms:120000}") long leaseMs,
+            @Value("${evolution.outbox.retry-base-delay-ms:2000}") long retryBaseDelayMs,
+            @Value("${evolution.outbox.retry-max-delay-ms:300000}") long retryMaxDelayMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.evolutionTextMessageService = evolutionTextMessageService;
+        this.evolutionMediaMessageService = evolutionMediaMessageService;
+        this.evolutionAudioMessageService = evolutionAudioMessageService;
+        this.evolutionStickerMessageService = evolutionStickerMessageService;
+        this.maxInFlight = maxInFlight;
+        this.maxAttempts = maxAttempts;
+        this.dispatchTimeout = Duration.ofMillis(dispatchTimeoutMs);
+        // O lease precisa cobrir o timeout do envio, senão outra réplica reenviaria uma mensagem ainda em voo
+        this.lease = Duration.ofMillis(Math.max(leaseMs, dispatchTimeoutMs * 2));
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.retryMaxDelayMs = retryMaxDelayMs;
+
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.retryCounter = dispatchCounter(meterRegistry, "retry");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+        Gauge.builder("evolution.outbox.in-flight", inFlight, AtomicInteger::get)
+                .description("Mensagens da fila de saída do Evolution em envio nesta réplica")
+                .register(meterRegistry);
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("evolution.outbox.dispatch")
+                .description("Tentativas de envio da fila de saída do Evolution")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${evolution.outbox.poll-interval-ms:500}")
+    public void dispatchDueMessages() {
+        // Só reivindica o que esta réplica consegue enviar agora; o restante fica para as outras
+        int capacity = maxInFlight - inFlight.get();
+        if (capacity <= 0) {
+            return;
+        }
+        try {
+            List<ClaimedMessage> claimed = transactionTemplate.execute(status -> claim(capacity));
+            if (claimed != null) {
+                claimed.forEach(this::dispatch);
+            }
+        } catch (Exception e) {
+            log.error("Failed to claim Evolution outbound messages: {}", e.getMessage());
+        }
+    }
+
+    private List<ClaimedMessage> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimedMessage> due = jdbcTemplate.query("""
+                SELECT m.id, m.message_type, m.payload::text AS payload, m.attempts,
+                       i.id AS instance_id, i.instance_name, e.id AS evolution_id, e.url, e.api_key
+                FROM evolution_outbound_messages m
+                JOIN evolution_instances i ON i.id = m.evolution_instance_id
+                JOIN evolutions e ON e.id = i.evolution_id
+                WHERE m.status IN ('PENDING', 'SENDING') AND m.next_attempt_at <= ?
+                ORDER BY m.next_attempt_at
+                LIMIT ?
+                FOR UPDATE OF m SKIP LOCKED
+                """,
+                (rs, rowNum) -> new ClaimedMessage(
+                        rs.getLong("id"),
+                        EvolutionMessageType.valueOf(rs.getString("message_type")),
+                        rs.getString("payload"),
+                        rs.getInt("attempts") + 1,
+                        EvolutionInstance.builder()
+                                .id(rs.getLong("instance_id"))
+                                .instanceName(rs.getString("instance_name"))
+                                .evolution(Evolution.builder()
+                                        .id(rs.getLong("evolution_id"))
+                                        .url(rs.getString("url"))
+                                        .apiKey(rs.getString("api_key"))
+                                        .build())
+                                .build()),
+                Timestamp.valueOf(now), limit);
+
+        if (!due.isEmpty()) {
+            Timestamp leaseEnd = Timestamp.valueOf(now.plus(lease));
+            jdbcTemplate.batchUpdate("""
+                    UPDATE evolution_outbound_messages
+                    SET status = 'SENDING', attempts = attempts + 1, next_attempt_at = ?, updated_at = ?
+                    WHERE id = ?
+                    """, due, due.size(),
+                    (ps, message) -> {
+                        ps.setTimestamp(1, leaseEnd);
+                        ps.setTimestamp(2, Timestamp.valueOf(now));
+                        ps.setLong(3, message.getId());
+                    });
+        }
+        return due;
+    }
+
+    private void dispatch(ClaimedMessage message) {
+        inFlight.incrementAndGet();
+        Mono.defer(() -> {
+                    try {
+                        return send(message);
+                    } catch (JsonProcessingException e) {
+                        return Mono.error(e);
+                    }
+                })
+                .timeout(dispatchTimeout)
+                // O resultado é gravado via JDBC: sai da event loop do Netty antes de bloquear
+                .publishOn(Schedulers.boundedElastic())
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .subscribe(
+                        sent -> markSent(message, sent),
+                        error -> markFailed(message, error));
+    }
+
+    private Mono<SentMessage> send(ClaimedMessage message) throws JsonProcessingException {
+        EvolutionInstance instance = message.getInstance();
+        return switch (message.getType()) {
+            case TEXT -> evolutionTextMessageService
+                    .sendTextAsync(instance, objectMapper.readValue(message.getPayload(), SendTextRequestDTO.class))
+                    .map(response -> new SentMessage(response.getKey() != null ? response.getKey().getId() : null,
+                            response.getStatus()));
+            case MEDIA -> evolutionMediaMessageService
+                    .sendMediaAsync(instance, objectMapper.readValue(message.getPayload(), SendMediaRequestDTO.class))
+                    .map(response -> new SentMessage(response.getKey() != null ? response.getKey().getId() : null,
+                            response.getStatus()));
+            case AUDIO -> evolutionAudioMessageService
+                    .sendAudioAsync(instance, objectMapper.readValue(message.getPayload(), SendAudioRequestDTO.class))
+                    .map(response -> new SentMessage(response.getKey() != null ? response.getKey().getId() : null,
+                            response.getStatus()));
+            case STICKER -> evolutionStickerMessageService
+                    .sendStickerAsync(instance, objectMapper.readValue(message.getPayload(), SendStickerRequestDTO.class))
+                    .map(response -> new SentMessage(response.getKey() != null ? response.getKey().getId() : null,
+                            response.getStatus()));
+        };
+    }
+
+    private void markSent(ClaimedMessage message, SentMessage sent) {
+        sentCounter.increment();
+        LocalDateTime now = LocalDateTime.now();
+        update("""
+                UPDATE evolution_outbound_messages
+                SET status = 'SENT', sent_at = ?, evolution_message_id = ?, evolution_status = ?, last_error = NULL, updated_at = ?
+                WHERE id = ? AND status = 'SENDING' AND attempts = ?
+                """, message, Timestamp.valueOf(now), sent.getMessageId(), sent.getStatus(), Timestamp.valueOf(now),
+                message.getId(), message.getAttempt());
+    }
+
+    private void markFailed(ClaimedMessage message, Throwable error) {
+        String errorMessage = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        if (errorMessage.length() > 1000) {
+            errorMessage = errorMessage.substring(0, 1000);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!isRetryable(error) || message.getAttempt() >= maxAttempts) {
+            failedCounter.increment();
+            log.warn("Evolution outbound message {} failed after {} attempt(s): {}", message.getId(), message.getAttempt(), errorMessage);
+            update("""
+                    UPDATE evolution_outbound_messages
+                    SET status = 'FAILED', last_error = ?, updated_at = ?
+                    WHERE id = ? AND status = 'SENDING' AND attempts = ?
+                    """, message, errorMessage, Timestamp.valueOf(now), message.getId(), message.getAttempt());
+            return;
+        }
+
+        retryCounter.increment();
+        LocalDateTime nextAttempt = now.plus(backoff(message.getAttempt()));
+        log.warn("Evolution outbound message {} attempt {} failed, retrying at {}: {}",
+                message.getId(), message.getAttempt(), nextAttempt, errorMessage);
+        update("""
+                UPDATE evolution_outbound_messages
+                SET status = 'PENDING', next_attempt_at = ?, last_error = ?, updated_at = ?
+                WHERE id = ? AND status = 'SENDING' AND attempts = ?
+                """, message, Timestamp.valueOf(nextAttempt), errorMessage, Timestamp.valueOf(now),
+                message.getId(), message.getAttempt());
+    }
+
+    private void update(String sql, ClaimedMessage message, Object... args) {
+        try {
+            if (jdbcTemplate.update(sql, args) == 0) {
+                log.warn("Dispatch result of Evolution outbound message {} attempt {} discarded: lease expired and the message was reclaimed",
+                        message.getId(), message.getAttempt());
+            }
+        } catch (Exception e) {
+            // Sem a gravação, a mensagem volta a ser reivindicada quando o lease expirar
+            log.error("Failed to record dispatch result of Evolution outbound message {}: {}", message.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Só falhas de transporte (conexão, timeout) e status 5xx/408/429 geram nova tentativa.
+     * Erros de cliente do Evolution (payload inválido, instância inexistente) não melhoram com nova tentativa, e
+     * qualquer outro erro (ex: falha ao ler ou mapear um response 2xx) pode acontecer depois da entrega:
+     * repetir reenviaria a mensagem no WhatsApp.
+     */
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof WebClientRequestException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status >= 500 || status == 408 || status == 429;
+        }
+        return false;
+    }
+
+    /**
+     * Backoff exponencial com jitter: metade fixa, metade aleatória
+     */
+    private Duration backoff(int attempt) {
+        long delay = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ClaimedMessage {
+        private final Long id;
+        private final EvolutionMessageType type;
+        private final String payload;
+        private final int attempt;
+        private final EvolutionInstance instance;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SentMessage {
+        private final String messageId;
+        private final String status;
+    }
+}
@@ -4,6 +4,7 @@ import com.tedioinfernal.tedioapp.dto.EvolutionRequestDTO;
 import com.tedioinfernal.tedioapp.dto.EvolutionResponseDTO;
 import com.tedioinfernal.tedioapp.entity.Evolution;
 import com.tedioinfernal.tedioapp.entity.Owner;
+import com.tedioinfernal.tedioapp.integrations.evolution.client.EvolutionWebClientRegistry;
 import com.tedioinfernal.tedioapp.repository.EvolutionRepository;
 import com.tedioinfernal.tedioapp.repository.OwnerRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +23,7 @@ public class EvolutionService {
 
     private final EvolutionRepository evolutionRepository;
     private final OwnerRepository ownerRepository;
+    private final EvolutionWebClientRegistry evolutionWebClientRegistry;
 
     @Transactional
     public EvolutionResponseDTO createEvolution(EvolutionRequestDTO requestDTO) {
@@ -95,6 +98,9 @@ public class EvolutionService {
         Owner owner = ownerRepository.findById(requestDTO.getOwnerId())
                 .orElseThrow(() -> new RuntimeException("Owner não encontrado com ID: " + requestDTO.getOwnerId()));
 
+        boolean connectionChanged = !Objects.equals(evolution.getUrl(), requestDTO.getUrl())
+                || !Objects.equals(evolution.getApiKey(), requestDTO.getApiKey());
+
         evolution.setNome(requestDTO.getNome());
         evolution.setDescricao(requestDTO.getDescricao());
         evolution.setUrl(requestDTO.getUrl());
@@ -104,6 +110,11 @@ public class EvolutionService {
         Evolution updatedEvolution = evolutionRepository.save(evolution);
         log.info("Evolution updated successfully with ID: {}", updatedEvolution.getId());
 
+        // Nova URL ou API Key: o WebClient é recriado na próxima chamada
+        if (connectionChanged) {
+            evolutionWebClientRegistry.invalidate(id);
+        }
+
         return mapToResponseDTO(updatedEvolution);
     }
 
@@ -116,6 +127,7 @@ public class EvolutionService {
         }
 
         evolutionRepository.deleteById(id);
+        evolutionWebClientRegistry.invalidate(id);
         log.info("Evolution deleted successfully with ID: {}", id);
     }
 
@@ -0,0 +1,189 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.enums.CircuitState;
+import com.tedioinfernal.tedioapp.exception.IntegrationUnavailableException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker e bulkhead de uma integração.
+ * O circuito abre quando a taxa de falhas ou de chamadas lentas na janela das últimas N chamadas passa do limite;
+ * depois do tempo de espera deixa passar algumas chamadas de teste (HALF_OPEN) antes de fechar de novo.
+ * O bulkhead limita as chamadas simultâneas para a integração.
+ */
+@Slf4j
+public class IntegrationCircuitBreaker {
+
+    @Getter
+    private final Long integrationId;
+    private final Config config;
+    private final Semaphore bulkhead;
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+
+    @Getter
+    private CircuitState state = CircuitState.CLOSED;
+    private Instant openedAt;
+    private int index;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+    private int halfOpenPermits;
+
+    public IntegrationCircuitBreaker(Long integrationId, Config config) {
+        this.integrationId = integrationId;
+        this.config = config;
+        this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+        this.failures = new boolean[config.getWindowSize()];
+        this.slowCalls = new boolean[config.getWindowSize()];
+    }
+
+    /**
+     * Reserva a chamada: falha rápido se o circuito estiver aberto ou o bulkhead cheio.
+     * Toda permissão concedida deve ser encerrada com onResult.
+     */
+    public void acquirePermission(Duration maxWait) {
+        synchronized (this) {
+            if (state == CircuitState.OPEN) {
+                if (Instant.now().isBefore(openedAt.plus(config.getOpenWait()))) {
+                    throw new IntegrationUnavailableException(
+                            "Circuito aberto para a integração ID: " + integrationId, integrationId, state, false);
+                }
+                transitionTo(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (halfOpenPermits >= config.getHalfOpenCalls()) {
+                    throw new IntegrationUnavailableException(
+                            "Circuito em teste para a integração ID: " + integrationId, integrationId, state, false);
+                }
+                halfOpenPermits++;
+            }
+        }
+
+        boolean acquired;
+        try {
+            acquired = maxWait.isZero()
+                    ? bulkhead.tryAcquire()
+                    : bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            synchronized (this) {
+                if (state == CircuitState.HALF_OPEN && halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                }
+            }
+            throw new IntegrationUnavailableException(
+                    "Limite de chamadas simultâneas atingido para a integração ID: " + integrationId,
+                    integrationId, getState(), true);
+        }
+    }
+
+    /**
+     * Registra o resultado de uma chamada permitida e libera o bulkhead
+     */
+    public void onResult(boolean failure, Duration duration) {
+        bulkhead.release();
+        boolean slow = duration.compareTo(config.getSlowCallThreshold()) >= 0;
+
+        synchronized (this) {
+            if (state == CircuitState.OPEN) {
+                // Chamada iniciada antes da abertura: não altera o estado
+                return;
+            }
+
+            record(failure, slow);
+
+            if (state == CircuitState.HALF_OPEN) {
+                if (recorded >= config.getHalfOpenCalls()) {
+                    transitionTo(thresholdExceeded() ? CircuitState.OPEN : CircuitState.CLOSED);
+                }
+            } else if (recorded >= config.getMinimumCalls() && thresholdExceeded()) {
+                transitionTo(CircuitState.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Chamada cancelada pelo próprio serviço (ex: perdedora do hedging): libera o bulkhead sem contar como resultado
+     */
+    public void onCancelled() {
+        bulkhead.release();
+        synchronized (this) {
+            if (state == CircuitState.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+            }
+        }
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    public synchronized float getFailureRate() {
+        return recorded == 0 ? 0 : failureCount * 100f / recorded;
+    }
+
+    public synchronized float getSlowCallRate() {
+        return recorded == 0 ? 0 : slowCount * 100f / recorded;
+    }
+
+    private void record(boolean failure, boolean slow) {
+        if (recorded == failures.length) {
+            // Janela cheia: remove a chamada mais antiga
+            if (failures[index]) {
+                failureCount--;
+            }
+            if (slowCalls[index]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[index] = failure;
+        slowCalls[index] = slow;
+        if (failure) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        index = (index + 1) % failures.length;
+    }
+
+    private boolean thresholdExceeded() {
+        return getFailureRate() >= config.getFailureRateThreshold()
+                || getSlowCallRate() >= config.getSlowCallRateThreshold();
+    }
+
+    private void transitionTo(CircuitState newState) {
+        log.warn("Circuit for integration ID {} changed from {} to {} (failure rate: {}%, slow call rate: {}%)",
+                integrationId, state, newState, getFailureRate(), getSlowCallRate());
+        state = newState;
+        openedAt = newState == CircuitState.OPEN ? Instant.now() : null;
+        halfOpenPermits = 0;
+        index = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    @lombok.Value
+    public static class Config {
+        int windowSize;
+        int minimumCalls;
+        float failureRateThreshold;
+        float slowCallRateThreshold;
+        Duration slowCallThreshold;
+        Duration openWait;
+        int halfOpenCalls;
+        int maxConcurrentCalls;
+    }
+}
@@ -0,0 +1,156 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.enums.CircuitState;
+import com.tedioinfernal.tedioapp.exception.IntegrationUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers por Integration, criados sob demanda com a configuração da aplicação.
+ * Testes de carga usam breakers à parte (janela e bulkhead próprios, limitados por request.load-test.max-concurrency)
+ * para não ocupar o bulkhead nem abrir o circuito do tráfego real.
+ */
+@Component
+@Slf4j
+public class IntegrationCircuitBreakerRegistry {
+
+    private final Map<Long, IntegrationCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<Long, IntegrationCircuitBreaker> loadTestBreakers = new ConcurrentHashMap<>();
+    private final Map<Long, List<Meter>> gauges = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final IntegrationCircuitBreaker.Config config;
+    private final IntegrationCircuitBreaker.Config loadTestConfig;
+    private final Duration bulkheadMaxWait;
+
+    public IntegrationCircuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${request.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${request.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${request.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${request.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${request.circuit-breaker.slow-call-threshold-ms:10000}") long slowCallThresholdMs,
+            @Value("${request.circuit-breaker.open-wait-seconds:30}") long openWaitSeconds,
+            @Value("${request.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${request.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${request.bulkhead.max-wait-ms:0}") long bulkheadMaxWaitMs,
+            @Value("${request.load-test.max-concurrency:50}") int loadTestMaxConcurrency) {
+        this.meterRegistry = meterRegistry;
+        this.config = new IntegrationCircuitBreaker.Config(
+                windowSize,
+                Math.min(minimumCalls, windowSize),
+                failureRateThreshold,
+                slowCallRateThreshold,
+                Duration.ofMillis(slowCallThresholdMs),
+                Duration.ofSeconds(openWaitSeconds),
+                halfOpenCalls,
+                maxConcurrentCalls);
+        this.loadTestConfig = new IntegrationCircuitBreaker.Config(
+                config.getWindowSize(),
+                config.getMinimumCalls(),
+                config.getFailureRateThreshold(),
+                config.getSlowCallRateThreshold(),
+                config.getSlowCallThreshold(),
+                config.getOpenWait(),
+                config.getHalfOpenCalls(),
+                loadTestMaxConcurrency);
+        this.bulkheadMaxWait = Duration.ofMillis(bulkheadMaxWaitMs);
+    }
+
+    public IntegrationCircuitBreaker get(Long integrationId) {
+        return breakers.computeIfAbsent(integrationId, this::create);
+    }
+
+    /**
+     * Reserva uma chamada bloqueando no máximo request.bulkhead.max-wait-ms pelo bulkhead
+     */
+    public IntegrationCircuitBreaker acquire(Long integrationId) {
+        return acquire(integrationId, bulkheadMaxWait);
+    }
+
+    /**
+     * Reserva uma chamada sem bloquear (caminhos assíncronos)
+     */
+    public IntegrationCircuitBreaker tryAcquire(Long integrationId) {
+        return acquire(integrationId, Duration.ZERO);
+    }
+
+    /**
+     * Reserva uma chamada de teste de carga no breaker isolado da integração, sem bloquear
+     */
+    public IntegrationCircuitBreaker acquireForLoadTest(Long integrationId) {
+        IntegrationCircuitBreaker breaker = loadTestBreakers.computeIfAbsent(integrationId,
+                id -> new IntegrationCircuitBreaker(id, loadTestConfig));
+        breaker.acquirePermission(Duration.ZERO);
+        return breaker;
+    }
+
+    public Collection<IntegrationCircuitBreaker> getAll() {
+        return breakers.values();
+    }
+
+    /**
+     * Descarta o breaker da integração (exclusão ou alteração) junto com seus gauges,
+     * que de outra forma continuariam publicados reportando NaN
+     */
+    public void remove(Long integrationId) {
+        breakers.computeIfPresent(integrationId, (id, breaker) -> {
+            List<Meter> meters = gauges.remove(id);
+            if (meters != null) {
+                meters.forEach(meterRegistry::remove);
+            }
+            return null;
+        });
+        loadTestBreakers.remove(integrationId);
+    }
+
+    private IntegrationCircuitBreaker acquire(Long integrationId, Duration maxWait) {
+        IntegrationCircuitBreaker breaker = get(integrationId);
+        try {
+            breaker.acquirePermission(maxWait);
+        } catch (IntegrationUnavailableException e) {
+            Counter.builder("request.circuit.rejected")
+                    .description("Chamadas recusadas pelo circuit breaker ou bulkhead")
+                    .tag("integration", String.valueOf(integrationId))
+                    .tag("reason", e.isBulkheadFull() ? "bulkhead" : "circuit")
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+        return breaker;
+    }
+
+    private IntegrationCircuitBreaker create(Long integrationId) {
+        IntegrationCircuitBreaker breaker = new IntegrationCircuitBreaker(integrationId, config);
+        String tag = String.valueOf(integrationId);
+        Gauge state = Gauge.builder("request.circuit.state", breaker, b -> stateValue(b.getState()))
+                .description("Estado do circuito (0 = fechado, 1 = aberto, 2 = em teste)")
+                .tag("integration", tag)
+                .register(meterRegistry);
+        Gauge available = Gauge.builder("request.bulkhead.available", breaker, IntegrationCircuitBreaker::getAvailableConcurrentCalls)
+                .description("Chamadas simultâneas ainda disponíveis para a integração")
+                .tag("integration", tag)
+                .register(meterRegistry);
+        gauges.put(integrationId, List.of(state, available));
+        log.debug("Circuit breaker created for integration ID: {}", integrationId);
+        return breaker;
+    }
+
+    private double stateValue(CircuitState state) {
+        return switch (state) {
+            case CLOSED -> 0;
+            case OPEN -> 1;
+            case HALF_OPEN -> 2;
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.entity.Integration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Um HttpClient por Integration, cada um com seu próprio pool de conexões e executor.
+ * Assim uma integração lenta não consome as conexões nem as threads das demais.
+ * O cliente é recriado quando as configurações da integração mudam.
+ */
+@Component
+@Slf4j
+public class IntegrationHttpClientRegistry {
+
+    private final Map<Long, IntegrationHttpClient> clients = new ConcurrentHashMap<>();
+    @Getter
+    private final IntegrationHttpSettings defaultSettings;
+    private final IntegrationHttpClient defaultClient;
+    private final int responseCaptureBytes;
+
+    public IntegrationHttpClientRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${request.http-client.http-version:HTTP_1_1}") HttpClient.Version httpVersion,
+            @Value("${request.http-client.connect-timeout-ms:30000}") long connectTimeoutMs,
+            @Value("${request.http-client.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${request.http-client.executor-threads:4}") int executorThreads,
+            @Value("${request.http-client.max-response-bytes:10485760}") long maxResponseBytes,
+            @Value("${request.http-client.response-capture-bytes:65536}") int responseCaptureBytes) {
+        this.defaultSettings = new IntegrationHttpSettings(
+                httpVersion,
+                Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(readTimeoutMs),
+                executorThreads,
+                maxResponseBytes);
+        this.responseCaptureBytes = responseCaptureBytes;
+        this.defaultClient = build("default", defaultSettings);
+        Gauge.builder("request.http.clients", clients, Map::size)
+                .description("Clientes HTTP ativos por integração")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resolve as configurações da integração, usando os padrões da aplicação para campos não preenchidos
+     */
+    public IntegrationHttpSettings resolveSettings(Integration integration) {
+        return new IntegrationHttpSettings(
+                integration.getHttpVersion() != null ? integration.getHttpVersion() : defaultSettings.getHttpVersion(),
+                integration.getConnectTimeoutMs() != null
+                        ? Duration.ofMillis(integration.getConnectTimeoutMs())
+                        : defaultSettings.getConnectTimeout(),
+                integration.getReadTimeoutMs() != null
+                        ? Duration.ofMillis(integration.getReadTimeoutMs())
+                        : defaultSettings.getReadTimeout(),
+                integration.getExecutorThreads() != null
+                        ? integration.getExecutorThreads()
+                        : defaultSettings.getExecutorThreads(),
+                integration.getMaxResponseBytes() != null
+                        ? integration.getMaxResponseBytes()
+                        : defaultSettings.getMaxResponseBytes());
+    }
+
+    /**
+     * Body handler em String limitado ao tamanho máximo de response das configurações informadas
+     */
+    public HttpResponse.BodyHandler<String> bodyHandler(IntegrationHttpSettings settings) {
+        return new BoundedBodyHandler(settings.getMaxResponseBytes(), responseCaptureBytes);
+    }
+
+    /**
+     * Cliente da integração para as configurações informadas (recriado se as configurações mudaram)
+     */
+    public HttpClient getClient(Long integrationId, IntegrationHttpSettings settings) {
+        IntegrationHttpClient client = clients.get(integrationId);
+        if (client != null && client.getSettings().equals(settings)) {
+            return client.getHttpClient();
+        }
+        return clients.compute(integrationId, (id, current) -> {
+            if (current != null && current.getSettings().equals(settings)) {
+                return current;
+            }
+            log.info("Building HTTP client for integration ID: {} ({})", id, settings);
+            return build("integration-" + id, settings);
+        }).getHttpClient();
+    }
+
+    /**
+     * Cliente compartilhado para chamadas sem integração (ex: autenticações)
+     */
+    public HttpClient getDefaultClient() {
+        return defaultClient.getHttpClient();
+    }
+
+    /**
+     * Descarta o cliente da integração. Chamadas em andamento terminam normalmente no cliente antigo;
+     * as threads ociosas do executor expiram sozinhas.
+     */
+    public void invalidate(Long integrationId) {
+        if (clients.remove(integrationId) != null) {
+            log.info("HTTP client discarded for integration ID: {}", integrationId);
+        }
+    }
+
+    private IntegrationHttpClient build(String name, IntegrationHttpSettings settings) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                settings.getExecutorThreads(), settings.getExecutorThreads(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-http-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(settings.getHttpVersion())
+                .connectTimeout(settings.getConnectTimeout())
+                .executor(executor)
+                .build();
+        return new IntegrationHttpClient(httpClient, executor, settings);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.values().forEach(client -> client.getExecutor().shutdown());
+        defaultClient.getExecutor().shutdown();
+    }
+
+    @Getter
+    private static class IntegrationHttpClient {
+        private final HttpClient httpClient;
+        private final ThreadPoolExecutor executor;
+        private final IntegrationHttpSettings settings;
+
+        IntegrationHttpClient(HttpClient httpClient, ThreadPoolExecutor executor, IntegrationHttpSettings settings) {
+            this.httpClient = httpClient;
+            this.executor = executor;
+            this.settings = settings;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.tedioinfernal.tedioapp.service;
+
+import lombok.Value;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Configuração já resolvida (valores da Integration ou padrões da aplicação) do cliente HTTP de uma integração
+ */
+@Value
+public class IntegrationHttpSettings {
+
+    HttpClient.Version httpVersion;
+    Duration connectTimeout;
+    Duration readTimeout;
+    int executorThreads;
+    long maxResponseBytes;
+}
@@ -5,6 +5,7 @@ import com.tedioinfernal.tedioapp.dto.IntegrationResponseDTO;
 import com.tedioinfernal.tedioapp.entity.ApiAuthentication;
 import com.tedioinfernal.tedioapp.entity.Integration;
 import com.tedioinfernal.tedioapp.entity.Owner;
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
 import com.tedioinfernal.tedioapp.repository.ApiAuthenticationRepository;
 import com.tedioinfernal.tedioapp.repository.IntegrationRepository;
 import com.tedioinfernal.tedioapp.repository.OwnerRepository;
@@ -24,6 +25,9 @@ public class IntegrationService {
     private final IntegrationRepository integrationRepository;
     private final OwnerRepository ownerRepository;
     private final ApiAuthenticationRepository apiAuthenticationRepository;
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
+    private final IntegrationHttpClientRegistry integrationHttpClientRegistry;
+    private final IntegrationCircuitBreakerRegistry integrationCircuitBreakerRegistry;
 
     @Transactional
     public IntegrationResponseDTO createIntegration(IntegrationRequestDTO requestDTO) {
@@ -45,6 +49,16 @@ public class IntegrationService {
                 .owner(owner)
                 .authentication(authentication)
                 .headers(requestDTO.getHeaders())
+                .httpVersion(requestDTO.getHttpVersion())
+                .connectTimeoutMs(requestDTO.getConnectTimeoutMs())
+                .readTimeoutMs(requestDTO.getReadTimeoutMs())
+                .executorThreads(requestDTO.getExecutorThreads())
+                .maxResponseBytes(requestDTO.getMaxResponseBytes())
+                .retryMaxAttempts(requestDTO.getRetryMaxAttempts())
+                .retryBaseDelayMs(requestDTO.getRetryBaseDelayMs())
+                .retryMaxDelayMs(requestDTO.getRetryMaxDelayMs())
+                .retryStatusCodes(requestDTO.getRetryStatusCodes())
+                .replayMode(requestDTO.getReplayMode() != null ? requestDTO.getReplayMode() : ReplayMode.OFF)
                 .build();
 
         Integration savedIntegration = integrationRepository.save(integration);
@@ -99,8 +113,22 @@ public class IntegrationService {
         integration.setOwner(owner);
         integration.setAuthentication(authentication);
         integration.setHeaders(requestDTO.getHeaders());
+        integration.setHttpVersion(requestDTO.getHttpVersion());
+        integration.setConnectTimeoutMs(requestDTO.getConnectTimeoutMs());
+        integration.setReadTimeoutMs(requestDTO.getReadTimeoutMs());
+        integration.setExecutorThreads(requestDTO.getExecutorThreads());
+        integration.setMaxResponseBytes(requestDTO.getMaxResponseBytes());
+        integration.setRetryMaxAttempts(requestDTO.getRetryMaxAttempts());
+        integration.setRetryBaseDelayMs(requestDTO.getRetryBaseDelayMs());
+        integration.setRetryMaxDelayMs(requestDTO.getRetryMaxDelayMs());
+        integration.setRetryStatusCodes(requestDTO.getRetryStatusCodes());
+        if (requestDTO.getReplayMode() != null) {
+            integration.setReplayMode(requestDTO.getReplayMode());
+        }
 
         Integration updatedIntegration = integrationRepository.save(integration);
+        requestExecutionPlanCache.invalidateIntegration(id);
+        integrationHttpClientRegistry.invalidate(id);
         log.info("Integration updated successfully with ID: {}", updatedIntegration.getId());
 
         return mapToResponseDTO(updatedIntegration);
@@ -115,6 +143,9 @@ public class IntegrationService {
         }
 
         integrationRepository.deleteById(id);
+        requestExecutionPlanCache.invalidateIntegration(id);
+        integrationHttpClientRegistry.invalidate(id);
+        integrationCircuitBreakerRegistry.remove(id);
         log.info("Integration deleted successfully with ID: {}", id);
     }
 
@@ -129,6 +160,16 @@ public class IntegrationService {
                 .authenticationId(integration.getAuthentication() != null ? integration.getAuthentication().getId() : null)
                 .authenticationNome(integration.getAuthentication() != null ? integration.getAuthentication().getNome() : null)
                 .headers(integration.getHeaders())
+                .httpVersion(integration.getHttpVersion())
+                .connectTimeoutMs(integration.getConnectTimeoutMs())
+                .readTimeoutMs(integration.getReadTimeoutMs())
+                .executorThreads(integration.getExecutorThreads())
+                .maxResponseBytes(integration.getMaxResponseBytes())
+                .retryMaxAttempts(integration.getRetryMaxAttempts())
+                .retryBaseDelayMs(integration.getRetryBaseDelayMs())
+                .retryMaxDelayMs(integration.getRetryMaxDelayMs())
+                .retryStatusCodes(integration.getRetryStatusCodes())
+                .replayMode(integration.getReplayMode())
                 .createdAt(integration.getCreatedAt())
                 .updatedAt(integration.getUpdatedAt())
                 .build();
@@ -0,0 +1,259 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Infere campos e tipos de um JSON percorrendo os tokens do parser, sem montar a árvore de objetos.
+ * Formato das chaves: campo.sub, lista[] e lista[].campo; objetos e arrays aninhados também são registrados.
+ * Os tipos de todos os elementos amostrados de um array são mesclados, então um campo pode ser
+ * união ("integer|string") ou anulável ("string|null"). integer e number juntos viram number.
+ * Pode ser alimentado em partes (feed/finish) ou a partir de um parser bloqueante (parse).
+ * Além dos tipos, getObservations traz ocorrências e tamanhos por campo para o schema acumulado.
+ */
+@Slf4j
+public class JsonSchemaInference {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final List<String> TYPE_ORDER = List.of("object", "array", "string", "number", "integer", "boolean", "null");
+    private static final Comparator<String> TYPE_COMPARATOR = Comparator.comparingInt(TYPE_ORDER::indexOf);
+
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    @Getter
+    private final Map<String, Observation> observations = new HashMap<>();
+    private final int maxFields;
+    private final int maxDepth;
+    private final int maxArraySamples;
+    private final long maxBytes;
+    private NonBlockingJsonParser feedParser;
+    private String currentField;
+    private int skipDepth;
+    private long bytesFed;
+    private boolean stopped;
+
+    JsonSchemaInference(int maxFields, int maxDepth, int maxArraySamples, long maxBytes) {
+        this.maxFields = maxFields;
+        this.maxDepth = maxDepth;
+        this.maxArraySamples = maxArraySamples;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Processa mais um trecho do body. Ao atingir o limite de bytes ou em erro de parse
+     * a inferência para e mantém o que já foi encontrado.
+     */
+    public void feed(byte[] buffer, int offset, int length) {
+        if (stopped) {
+            return;
+        }
+        try {
+            if (feedParser == null) {
+                feedParser = (NonBlockingJsonParser) JSON_FACTORY.createNonBlockingByteArrayParser();
+            }
+            int allowed = (int) Math.min(length, maxBytes - bytesFed);
+            bytesFed += allowed;
+            feedParser.getNonBlockingInputFeeder().feedInput(buffer, offset, offset + allowed);
+            drain(feedParser);
+            if (allowed < length) {
+                log.debug("Schema inference stopped after {} bytes", bytesFed);
+                stopped = true;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to infer fields from streamed response: {}", e.getMessage());
+            stopped = true;
+        }
+    }
+
+    public Map<String, String> finish() {
+        if (!stopped && feedParser != null) {
+            try {
+                feedParser.getNonBlockingInputFeeder().endOfInput();
+                drain(feedParser);
+            } catch (IOException e) {
+                log.warn("Failed to finish streamed field inference: {}", e.getMessage());
+            }
+        }
+        return getFields();
+    }
+
+    /**
+     * Percorre um parser bloqueante até o fim do documento ou até o limite de bytes
+     */
+    public Map<String, String> parse(JsonParser parser) {
+        try (parser) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                process(token, parser);
+                if (parser.currentLocation().getCharOffset() > maxBytes) {
+                    log.debug("Schema inference stopped after {} chars", maxBytes);
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to infer fields from response: {}", e.getMessage());
+        }
+        return getFields();
+    }
+
+    private void drain(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            process(token, parser);
+        }
+    }
+
+    private void process(JsonToken token, JsonParser parser) throws IOException {
+        // Elemento de array além da amostra: ignora o valor inteiro, incluindo filhos
+        if (skipDepth > 0) {
+            if (token.isStructStart()) {
+                skipDepth++;
+            } else if (token.isStructEnd()) {
+                skipDepth--;
+            }
+            return;
+        }
+
+        if (token == JsonToken.FIELD_NAME) {
+            currentField = parser.currentName();
+            return;
+        }
+        if (token.isStructEnd()) {
+            Frame frame = stack.pop();
+            if (frame.array) {
+                Observation observation = observations.get(frame.prefix);
+                if (observation != null) {
+                    observation.size(frame.elements);
+                }
+            }
+            return;
+        }
+
+        Frame parent = stack.peek();
+        if (parent != null && parent.array && ++parent.elements > maxArraySamples) {
+            if (token.isStructStart()) {
+                skipDepth = 1;
+            }
+            return;
+        }
+
+        String key = currentKey(parent);
+        switch (token) {
+            case START_OBJECT -> {
+                if (!key.isEmpty()) {
+                    record(key, "object");
+                }
+                push(new Frame(key, false));
+            }
+            case START_ARRAY -> {
+                record(key, "array");
+                push(new Frame(key, true));
+            }
+            case VALUE_STRING -> {
+                Observation observation = record(key, "string");
+                if (observation != null) {
+                    observation.size(parser.getTextLength());
+                }
+            }
+            case VALUE_NUMBER_INT -> record(key, "integer");
+            case VALUE_NUMBER_FLOAT -> record(key, "number");
+            case VALUE_TRUE, VALUE_FALSE -> record(key, "boolean");
+            case VALUE_NULL -> record(key.isEmpty() ? "null" : key, "null");
+            default -> {
+            }
+        }
+    }
+
+    private String currentKey(Frame parent) {
+        if (parent == null) {
+            return "";
+        }
+        if (parent.array) {
+            return parent.prefix + "[]";
+        }
+        return parent.prefix.isEmpty() ? currentField : parent.prefix + "." + currentField;
+    }
+
+    private void push(Frame frame) throws IOException {
+        if (stack.size() >= maxDepth) {
+            throw new IOException("Profundidade máxima de " + maxDepth + " níveis excedida");
+        }
+        stack.push(frame);
+    }
+
+    private Observation record(String key, String type) {
+        Observation observation = observations.get(key);
+        if (observation == null) {
+            if (observations.size() >= maxFields) {
+                return null;
+            }
+            observation = new Observation();
+            observations.put(key, observation);
+        }
+        observation.types.add(type);
+        observation.count++;
+        return observation;
+    }
+
+    /**
+     * Campos encontrados até agora no formato de responseFields
+     */
+    public Map<String, String> getFields() {
+        Map<String, String> result = new HashMap<>();
+        observations.forEach((key, observation) -> result.put(key, describe(observation.types)));
+        return result;
+    }
+
+    /**
+     * Descrição de uma união de tipos no formato de responseFields ("string|null"); integer junto com number vira number
+     */
+    public static String describe(Collection<String> types) {
+        Set<String> ordered = new TreeSet<>(TYPE_COMPARATOR);
+        ordered.addAll(types);
+        if (ordered.contains("number")) {
+            ordered.remove("integer");
+        }
+        return String.join("|", ordered);
+    }
+
+    /**
+     * Tipos, ocorrências e tamanhos (strings e arrays) de um campo em um único documento
+     */
+    @Getter
+    public static final class Observation {
+        private final Set<String> types = new TreeSet<>(TYPE_COMPARATOR);
+        private long count;
+        private Long minSize;
+        private Long maxSize;
+
+        private void size(long size) {
+            minSize = minSize == null ? size : Math.min(minSize, size);
+            maxSize = maxSize == null ? size : Math.max(maxSize, size);
+        }
+    }
+
+    private static final class Frame {
+        private final String prefix;
+        private final boolean array;
+        private int elements;
+
+        private Frame(String prefix, boolean array) {
+            this.prefix = prefix;
+            this.array = array;
+        }
+    }
+}
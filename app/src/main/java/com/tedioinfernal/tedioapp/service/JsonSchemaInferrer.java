@@ -0,0 +1,65 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Ponto único de inferência de campos/tipos de JSON (responses de Requests e de autenticações,
+ * bodies de exemplo e responses em streaming), com limites de bytes, campos, profundidade
+ * e quantidade de elementos amostrados por array.
+ */
+@Component
+@Slf4j
+public class JsonSchemaInferrer {
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final int maxFields;
+    private final int maxDepth;
+    private final int maxArraySamples;
+
+    public JsonSchemaInferrer(
+            ObjectMapper objectMapper,
+            @Value("${request.schema.max-bytes:10485760}") long maxBytes,
+            @Value("${request.schema.max-fields:2000}") int maxFields,
+            @Value("${request.schema.max-depth:64}") int maxDepth,
+            @Value("${request.schema.max-array-samples:100}") int maxArraySamples) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.maxFields = maxFields;
+        this.maxDepth = maxDepth;
+        this.maxArraySamples = maxArraySamples;
+    }
+
+    public Map<String, String> infer(String json) {
+        return analyze(json).getFields();
+    }
+
+    /**
+     * Inferência completa de um documento, incluindo ocorrências e tamanhos por campo
+     */
+    public JsonSchemaInference analyze(String json) {
+        JsonSchemaInference inference = newInference();
+        if (json == null || json.trim().isEmpty()) {
+            return inference;
+        }
+        try {
+            inference.parse(objectMapper.getFactory().createParser(json));
+        } catch (IOException e) {
+            log.warn("Failed to infer fields from JSON: {}", e.getMessage());
+        }
+        return inference;
+    }
+
+    /**
+     * Inferência incremental para bodies recebidos em partes
+     */
+    public JsonSchemaInference newInference() {
+        return new JsonSchemaInference(maxFields, maxDepth, maxArraySamples, maxBytes);
+    }
+}
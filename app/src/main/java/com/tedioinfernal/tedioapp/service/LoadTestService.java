@@ -0,0 +1,374 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.dto.LoadTestProgressDTO;
+import com.tedioinfernal.tedioapp.dto.LoadTestReportDTO;
+import com.tedioinfernal.tedioapp.dto.LoadTestRequestDTO;
+import com.tedioinfernal.tedioapp.dto.RequestTestResponseDTO;
+import com.tedioinfernal.tedioapp.enums.CircuitState;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga de uma Request configurada, com progresso enviado por SSE e relatório final
+ * (percentis HdrHistogram, throughput e erros agrupados).
+ * No modo por taxa a latência é medida a partir do horário planejado de envio, então atrasos
+ * por falta de workers aparecem nos percentis (sem coordinated omission).
+ * Exige a permissão load-tester e respeita limites de concorrência, taxa, duração e execuções simultâneas.
+ * Cache de response, hedge e retry são desligados para medir o destino de fato.
+ * As chamadas passam por circuit breaker / bulkhead próprios, sem afetar o tráfego real da integração.
+ */
+@Service
+@Slf4j
+public class LoadTestService {
+
+    public static final String PERMISSION = "load-tester";
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int MAX_ERROR_KEYS = 20;
+
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
+    private final RequestService requestService;
+    private final ApiAuthenticationService apiAuthenticationService;
+    private final PermissionService permissionService;
+    private final IntegrationCircuitBreakerRegistry integrationCircuitBreakerRegistry;
+    private final int maxConcurrency;
+    private final int maxRate;
+    private final int maxDurationSeconds;
+    private final long progressIntervalMs;
+    private final long drainSeconds;
+    private final Semaphore runSlots;
+    private final ExecutorService coordinators;
+
+    public LoadTestService(
+            RequestExecutionPlanCache requestExecutionPlanCache,
+            RequestService requestService,
+            ApiAuthenticationService apiAuthenticationService,
+            PermissionService permissionService,
+            IntegrationCircuitBreakerRegistry integrationCircuitBreakerRegistry,
+            @Value("${request.load-test.max-concurrency:50}") int maxConcurrency,
+            @Value("${request.load-test.max-rate:500}") int maxRate,
+            @Value("${request.load-test.max-duration-seconds:300}") int maxDurationSeconds,
+            @Value("${request.load-test.max-concurrent-runs:1}") int maxConcurrentRuns,
+            @Value("${request.load-test.progress-interval-ms:1000}") long progressIntervalMs,
+            @Value("${request.load-test.drain-seconds:30}") long drainSeconds) {
+        this.requestExecutionPlanCache = requestExecutionPlanCache;
+        this.requestService = requestService;
+        this.apiAuthenticationService = apiAuthenticationService;
+        this.permissionService = permissionService;
+        this.integrationCircuitBreakerRegistry = integrationCircuitBreakerRegistry;
+        this.maxConcurrency = maxConcurrency;
+        this.maxRate = maxRate;
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.progressIntervalMs = progressIntervalMs;
+        this.drainSeconds = drainSeconds;
+        this.runSlots = new Semaphore(maxConcurrentRuns);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.coordinators = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "load-test-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter startLoadTest(Long requestId, LoadTestRequestDTO loadTestDTO, Long userId) {
+        permissionService.requirePermission(userId, PERMISSION);
+        validateLimits(loadTestDTO);
+
+        RequestExecutionPlan basePlan = requestExecutionPlanCache.getPlan(requestId);
+        // Destino já em falha para o tráfego real: não aumenta a carga sobre ele
+        if (integrationCircuitBreakerRegistry.get(basePlan.getIntegrationId()).getState() == CircuitState.OPEN) {
+            throw new RuntimeException("Circuito aberto para a integração ID: " + basePlan.getIntegrationId()
+                    + ", teste de carga não iniciado");
+        }
+        RequestRetryPolicy retryPolicy = basePlan.getRetryPolicy();
+        RequestExecutionPlan plan = basePlan.toBuilder()
+                .cacheEnabled(false)
+                .hedgeEnabled(false)
+                .loadTest(true)
+                .retryPolicy(retryPolicy == null ? null : new RequestRetryPolicy(1, retryPolicy.getBaseDelay(),
+                        retryPolicy.getMaxDelay(), retryPolicy.getRetryableStatusCodes(), false, retryPolicy.getMaxTotalTime()))
+                .build();
+
+        if (!runSlots.tryAcquire()) {
+            throw new RuntimeException("Limite de testes de carga simultâneos atingido, tente novamente mais tarde");
+        }
+
+        long timeoutMs = TimeUnit.SECONDS.toMillis(loadTestDTO.getDurationSeconds() + drainSeconds + 30);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        LoadTestRun run = new LoadTestRun(plan, loadTestDTO, emitter);
+        emitter.onCompletion(run::stop);
+        emitter.onTimeout(run::stop);
+        emitter.onError(error -> run.stop());
+
+        log.info("Starting load test for request ID {} by user ID {}: concurrency {}, rate {}, duration {}s",
+                requestId, userId, loadTestDTO.getConcurrency(), loadTestDTO.getRatePerSecond(), loadTestDTO.getDurationSeconds());
+        try {
+            coordinators.execute(() -> {
+                try {
+                    run.execute();
+                } finally {
+                    runSlots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runSlots.release();
+            throw new RuntimeException("Não foi possível iniciar o teste de carga");
+        }
+        return emitter;
+    }
+
+    private void validateLimits(LoadTestRequestDTO loadTestDTO) {
+        if (loadTestDTO.getConcurrency() > maxConcurrency) {
+            throw new RuntimeException("A concorrência máxima permitida é " + maxConcurrency);
+        }
+        if (loadTestDTO.getRatePerSecond() != null && loadTestDTO.getRatePerSecond() > maxRate) {
+            throw new RuntimeException("A taxa máxima permitida é " + maxRate + " requests por segundo");
+        }
+        if (loadTestDTO.getDurationSeconds() > maxDurationSeconds) {
+            throw new RuntimeException("A duração máxima permitida é " + maxDurationSeconds + " segundos");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinators.shutdownNow();
+    }
+
+    /**
+     * Estado de uma execução: workers, histogramas e contadores
+     */
+    private class LoadTestRun {
+
+        private final RequestExecutionPlan plan;
+        private final LoadTestRequestDTO config;
+        private final SseEmitter emitter;
+        private final Recorder recorder = new Recorder(HIGHEST_LATENCY_MICROS, 3);
+        private final Histogram total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final ThreadPoolExecutor workers;
+        private volatile boolean stopped;
+        private Histogram interval;
+
+        LoadTestRun(RequestExecutionPlan plan, LoadTestRequestDTO config, SseEmitter emitter) {
+            this.plan = plan;
+            this.config = config;
+            this.emitter = emitter;
+
+            // No modo por taxa a fila absorve no máximo 1s de atraso; acima disso as chamadas são descartadas
+            int queueCapacity = config.getRatePerSecond() != null ? config.getRatePerSecond() : config.getConcurrency();
+            AtomicInteger threadCount = new AtomicInteger();
+            this.workers = new ThreadPoolExecutor(config.getConcurrency(), config.getConcurrency(), 0, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "load-test-worker-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        void execute() {
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+            long progressNanos = TimeUnit.MILLISECONDS.toNanos(progressIntervalMs);
+            Integer rate = config.getRatePerSecond();
+
+            try {
+                if (rate == null) {
+                    for (int i = 0; i < config.getConcurrency(); i++) {
+                        workers.execute(() -> {
+                            while (!stopped && System.nanoTime() < deadline) {
+                                call(System.nanoTime());
+                            }
+                        });
+                    }
+                }
+
+                long sendInterval = rate != null ? TimeUnit.SECONDS.toNanos(1) / rate : Long.MAX_VALUE;
+                long nextSend = start;
+                long nextProgress = start + progressNanos;
+                long lastProgress = start;
+                long now;
+                while (!stopped && (now = System.nanoTime()) < deadline) {
+                    while (rate != null && nextSend <= now) {
+                        submit(nextSend);
+                        nextSend += sendInterval;
+                    }
+                    if (now >= nextProgress) {
+                        sendProgress(now - start, now - lastProgress);
+                        lastProgress = now;
+                        nextProgress += progressNanos;
+                    }
+                    long wakeUp = Math.min(deadline, Math.min(nextProgress, rate != null ? nextSend : Long.MAX_VALUE));
+                    LockSupport.parkNanos(wakeUp - System.nanoTime());
+                }
+
+                workers.shutdown();
+                if (!workers.awaitTermination(drainSeconds, TimeUnit.SECONDS)) {
+                    dropped.addAndGet(workers.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            } catch (Exception e) {
+                log.error("Load test for request ID {} failed: {}", plan.getRequestId(), e.getMessage());
+                stopped = true;
+            } finally {
+                workers.shutdownNow();
+            }
+
+            LoadTestReportDTO report = buildReport(System.nanoTime() - start);
+            log.info("Load test for request ID {} finished: {} requests, {} errors, {} req/s, p99 {} ms",
+                    plan.getRequestId(), report.getTotalRequests(), report.getErrorCount(),
+                    report.getThroughputPerSecond(), report.getLatencyMs().get("p99"));
+            try {
+                emitter.send(SseEmitter.event().name("report").data(report));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Load test client disconnected before the report: {}", e.getMessage());
+            }
+        }
+
+        private void submit(long intendedStart) {
+            try {
+                workers.execute(() -> call(intendedStart));
+            } catch (RejectedExecutionException e) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        /**
+         * Executa uma chamada; a latência conta a partir de intendedStart (horário planejado no modo por taxa)
+         */
+        private void call(long intendedStart) {
+            if (stopped) {
+                return;
+            }
+            inFlight.incrementAndGet();
+            try {
+                Map<String, Object> authenticationData = plan.requiresAuthentication()
+                        ? apiAuthenticationService.getAuthenticationData(plan.getAuthenticationId())
+                        : Map.of();
+                RequestTestResponseDTO result = requestService.executePlan(plan, authenticationData, Map.of());
+                if (result.isSuccess()) {
+                    successes.increment();
+                } else {
+                    failure(errorKey(result));
+                }
+            } catch (Exception e) {
+                failure(e.getClass().getSimpleName());
+            } finally {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                recorder.recordValue(Math.min(micros, HIGHEST_LATENCY_MICROS));
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private void failure(String key) {
+            failures.increment();
+            String bucket = errors.size() < MAX_ERROR_KEYS || errors.containsKey(key) ? key : "Outros";
+            errors.computeIfAbsent(bucket, k -> new LongAdder()).increment();
+        }
+
+        private String errorKey(RequestTestResponseDTO result) {
+            if (result.getStatusCode() > 0) {
+                return "HTTP " + result.getStatusCode();
+            }
+            String message = result.getErrorMessage();
+            if (message == null) {
+                return result.getStatusMessage();
+            }
+            return result.getStatusMessage() + ": " + (message.length() > 80 ? message.substring(0, 80) : message);
+        }
+
+        private void sendProgress(long elapsedNanos, long intervalNanos) {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            double seconds = intervalNanos / 1_000_000_000.0;
+            LoadTestProgressDTO progress = LoadTestProgressDTO.builder()
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .completed(successes.sum() + failures.sum())
+                    .errors(failures.sum())
+                    .intervalThroughputPerSecond(seconds > 0 ? interval.getTotalCount() / seconds : 0)
+                    .intervalP50Ms(toMillis(interval.getValueAtPercentile(50)))
+                    .intervalP99Ms(toMillis(interval.getValueAtPercentile(99)))
+                    .inFlight(inFlight.get())
+                    .build();
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(progress));
+            } catch (IOException | IllegalStateException e) {
+                log.info("Load test client disconnected, stopping load test for request ID {}", plan.getRequestId());
+                stopped = true;
+            }
+        }
+
+        private LoadTestReportDTO buildReport(long elapsedNanos) {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+
+            Map<String, Double> latency = new LinkedHashMap<>();
+            latency.put("min", toMillis(total.getMinValue()));
+            latency.put("mean", total.getMean() / 1000.0);
+            latency.put("p50", toMillis(total.getValueAtPercentile(50)));
+            latency.put("p90", toMillis(total.getValueAtPercentile(90)));
+            latency.put("p99", toMillis(total.getValueAtPercentile(99)));
+            latency.put("p999", toMillis(total.getValueAtPercentile(99.9)));
+            latency.put("max", toMillis(total.getMaxValue()));
+
+            Map<String, Long> errorCounts = new LinkedHashMap<>();
+            errors.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                    .forEach(entry -> errorCounts.put(entry.getKey(), entry.getValue().sum()));
+
+            long totalRequests = successes.sum() + failures.sum();
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return LoadTestReportDTO.builder()
+                    .requestId(plan.getRequestId())
+                    .mode(config.getRatePerSecond() != null ? "rate" : "concurrency")
+                    .concurrency(config.getConcurrency())
+                    .ratePerSecond(config.getRatePerSecond())
+                    .durationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .totalRequests(totalRequests)
+                    .successCount(successes.sum())
+                    .errorCount(failures.sum())
+                    .droppedCount(dropped.get())
+                    .throughputPerSecond(seconds > 0 ? Math.round(totalRequests / seconds * 100) / 100.0 : 0)
+                    .latencyMs(latency)
+                    .errors(errorCounts)
+                    .aborted(stopped)
+                    .build();
+        }
+
+        private double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
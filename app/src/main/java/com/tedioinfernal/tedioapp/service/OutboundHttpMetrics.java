@@ -0,0 +1,139 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.exception.ResponseTooLargeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas das chamadas HTTP de saída (requests de integrações, autenticações e Evolution).
+ * Histogramas de percentis e buckets de SLO do timer são configurados em management.metrics.distribution.*
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpMetrics {
+
+    public static final String CLIENT_REQUEST = "request";
+    public static final String CLIENT_AUTHENTICATION = "authentication";
+    public static final String CLIENT_EVOLUTION = "evolution";
+    public static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Tamanho do texto codificado em UTF-8 (como trafega), calculado sem copiar o conteúdo para um byte[]
+     */
+    public static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = value.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // Surrogate sem par vira '?' na codificação
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Registra uma chamada concluída (status > 0) ou que falhou sem resposta (error != null)
+     */
+    public void record(
+            String client,
+            Object integration,
+            Object path,
+            String method,
+            int statusCode,
+            Throwable error,
+            long durationNanos,
+            long bytesOut,
+            long bytesIn) {
+
+        if (error instanceof CancellationException) {
+            // Cancelada pelo próprio serviço (ex: perdedora do hedging): não é latência nem erro do destino
+            return;
+        }
+
+        Tags tags = Tags.of(
+                "client", client,
+                "integration", integration != null ? String.valueOf(integration) : NONE,
+                "path", path != null ? String.valueOf(path) : NONE,
+                "method", method);
+
+        Timer.builder("request.outbound")
+                .description("Latência das chamadas HTTP de saída")
+                .tags(tags)
+                .tag("status", statusClass(statusCode, error))
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (bytesOut > 0) {
+            Counter.builder("request.outbound.bytes")
+                    .description("Bytes enviados e recebidos nas chamadas HTTP de saída")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .tag("direction", "out")
+                    .register(meterRegistry)
+                    .increment(bytesOut);
+        }
+        if (bytesIn > 0) {
+            Counter.builder("request.outbound.bytes")
+                    .description("Bytes enviados e recebidos nas chamadas HTTP de saída")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .tag("direction", "in")
+                    .register(meterRegistry)
+                    .increment(bytesIn);
+        }
+
+        ResponseTooLargeException tooLarge = ResponseTooLargeException.find(error);
+        if (tooLarge != null) {
+            Counter.builder("request.outbound.aborted")
+                    .description("Responses abortados por exceder o tamanho máximo, pelo Content-Length ou durante a leitura")
+                    .tags(tags)
+                    .tag("reason", tooLarge.isDeclaredLength() ? "content-length" : "body")
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        if (error != null) {
+            Counter.builder("request.outbound.errors")
+                    .description("Chamadas HTTP de saída que falharam sem resposta, por tipo de erro")
+                    .tags(tags)
+                    .tag("type", unwrap(error).getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private String statusClass(int statusCode, Throwable error) {
+        if (error != null || statusCode <= 0) {
+            return "error";
+        }
+        return (statusCode / 100) + "xx";
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
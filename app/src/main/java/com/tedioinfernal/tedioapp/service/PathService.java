@@ -21,6 +21,7 @@ public class PathService {
 
     private final PathRepository pathRepository;
     private final IntegrationRepository integrationRepository;
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
 
     @Transactional
     public PathResponseDTO createPath(PathRequestDTO requestDTO) {
@@ -80,6 +81,7 @@ public class PathService {
         path.setIntegration(integration);
 
         Path updatedPath = pathRepository.save(path);
+        requestExecutionPlanCache.invalidatePath(id);
         log.info("Path updated successfully with ID: {}", updatedPath.getId());
 
         return mapToResponseDTO(updatedPath);
@@ -94,6 +96,7 @@ public class PathService {
         }
 
         pathRepository.deleteById(id);
+        requestExecutionPlanCache.invalidatePath(id);
         log.info("Path deleted successfully with ID: {}", id);
     }
 
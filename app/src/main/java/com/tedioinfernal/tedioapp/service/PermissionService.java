@@ -4,6 +4,7 @@ import com.tedioinfernal.tedioapp.dto.UserPermissionsResponseDTO;
 import com.tedioinfernal.tedioapp.entity.Permission;
 import com.tedioinfernal.tedioapp.entity.User;
 import com.tedioinfernal.tedioapp.entity.UserPermission;
+import com.tedioinfernal.tedioapp.exception.PermissionDeniedException;
 import com.tedioinfernal.tedioapp.repository.PermissionRepository;
 import com.tedioinfernal.tedioapp.repository.UserPermissionRepository;
 import com.tedioinfernal.tedioapp.repository.UserRepository;
@@ -87,6 +88,17 @@ public class PermissionService {
                 .build();
     }
 
+    /**
+     * Exige que o usuário tenha a permissão informada (PermissionDeniedException caso contrário)
+     */
+    @Transactional(readOnly = true)
+    public void requirePermission(Long userId, String permissionName) {
+        if (!userPermissionRepository.existsByUserIdAndPermissionName(userId, permissionName)) {
+            log.warn("User ID {} denied: missing permission '{}'", userId, permissionName);
+            throw new PermissionDeniedException(permissionName);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<Permission> getAllPermissions() {
         log.info("Fetching all available permissions");
@@ -0,0 +1,208 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.dto.RequestBatchItemDTO;
+import com.tedioinfernal.tedioapp.dto.RequestBatchItemResultDTO;
+import com.tedioinfernal.tedioapp.dto.RequestBatchRequestDTO;
+import com.tedioinfernal.tedioapp.dto.RequestBatchResponseDTO;
+import com.tedioinfernal.tedioapp.dto.RequestTestResponseDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa várias Requests em uma única chamada, com paralelismo limitado.
+ * Cada autenticação envolvida é resolvida uma única vez por lote.
+ */
+@Service
+@Slf4j
+public class RequestBatchService {
+
+    private final RequestService requestService;
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
+    private final ApiAuthenticationService apiAuthenticationService;
+    private final int maxParallelism;
+    private final int defaultParallelism;
+    private final int maxItems;
+    private final ThreadPoolExecutor executor;
+
+    public RequestBatchService(
+            RequestService requestService,
+            RequestExecutionPlanCache requestExecutionPlanCache,
+            ApiAuthenticationService apiAuthenticationService,
+            @Value("${request.batch.max-parallelism:16}") int maxParallelism,
+            @Value("${request.batch.default-parallelism:4}") int defaultParallelism,
+            @Value("${request.batch.max-items:200}") int maxItems,
+            @Value("${request.batch.pool-size:32}") int poolSize,
+            @Value("${request.batch.queue-capacity:256}") int queueCapacity) {
+        this.requestService = requestService;
+        this.requestExecutionPlanCache = requestExecutionPlanCache;
+        this.apiAuthenticationService = apiAuthenticationService;
+        this.maxParallelism = maxParallelism;
+        this.defaultParallelism = Math.min(defaultParallelism, maxParallelism);
+        this.maxItems = maxItems;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "request-batch-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public RequestBatchResponseDTO executeBatch(RequestBatchRequestDTO batchDTO) {
+        List<RequestBatchItemDTO> items = batchDTO.getItems();
+        if (items.size() > maxItems) {
+            throw new RuntimeException("O lote excede o limite de " + maxItems + " requests");
+        }
+
+        int parallelism = Math.min(
+                batchDTO.getParallelism() != null ? batchDTO.getParallelism() : defaultParallelism,
+                Math.min(maxParallelism, items.size()));
+
+        log.info("Executing batch with {} requests, parallelism: {}", items.size(), parallelism);
+        long startTime = System.currentTimeMillis();
+
+        // Resolve os planos antes de disparar os workers
+        List<RequestExecutionPlan> plans = new ArrayList<>(items.size());
+        List<String> planErrors = new ArrayList<>(items.size());
+        for (RequestBatchItemDTO item : items) {
+            try {
+                plans.add(requestExecutionPlanCache.getPlan(item.getRequestId()));
+                planErrors.add(null);
+            } catch (Exception e) {
+                plans.add(null);
+                planErrors.add(e.getMessage());
+            }
+        }
+
+        // Uma única autenticação por ApiAuthentication no lote: o primeiro worker resolve, os demais aguardam
+        Map<Long, CompletableFuture<Map<String, Object>>> authentications = new ConcurrentHashMap<>();
+
+        // Workers consomem os itens em ordem até esgotar a fila do lote
+        RequestBatchItemResultDTO[] results = new RequestBatchItemResultDTO[items.size()];
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+        for (int w = 0; w < parallelism; w++) {
+            workers[w] = CompletableFuture.runAsync(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < items.size()) {
+                    results[index] = executeItem(index, items.get(index), plans.get(index),
+                            planErrors.get(index), authentications, startTime);
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(workers).join();
+
+        long totalTime = System.currentTimeMillis() - startTime;
+        int succeeded = (int) Arrays.stream(results)
+                .filter(Objects::nonNull)
+                .filter(result -> result.getResult().isSuccess())
+                .count();
+
+        log.info("Batch finished in {} ms: {} succeeded, {} failed", totalTime, succeeded, items.size() - succeeded);
+
+        return RequestBatchResponseDTO.builder()
+                .total(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .parallelism(parallelism)
+                .authenticationsResolved(authentications.size())
+                .totalTimeMs(totalTime)
+                .results(List.of(results))
+                .build();
+    }
+
+    private RequestBatchItemResultDTO executeItem(
+            int index,
+            RequestBatchItemDTO item,
+            RequestExecutionPlan plan,
+            String planError,
+            Map<Long, CompletableFuture<Map<String, Object>>> authentications,
+            long batchStartTime) {
+
+        long itemStart = System.currentTimeMillis();
+        RequestTestResponseDTO result;
+
+        if (plan == null) {
+            result = RequestTestResponseDTO.builder()
+                    .success(false)
+                    .statusCode(0)
+                    .statusMessage("Error")
+                    .errorMessage(planError)
+                    .build();
+        } else {
+            try {
+                Map<String, Object> authenticationData = plan.requiresAuthentication()
+                        ? authenticationData(authentications, plan.getAuthenticationId())
+                        : Map.of();
+                result = requestService.executePlan(plan, authenticationData, item.getVariables());
+            } catch (Exception e) {
+                log.error("Error executing batch item {}: {}", index, e.getMessage());
+                result = RequestTestResponseDTO.builder()
+                        .success(false)
+                        .statusCode(0)
+                        .statusMessage("Error")
+                        .fullUrl(plan.getFullUrl())
+                        .httpMethod(plan.getHttpMethod().toString())
+                        .errorMessage(e.getMessage())
+                        .build();
+            }
+        }
+
+        return RequestBatchItemResultDTO.builder()
+                .index(index)
+                .requestId(item.getRequestId())
+                .queueTimeMs(itemStart - batchStartTime)
+                .executionTimeMs(System.currentTimeMillis() - itemStart)
+                .result(result)
+                .build();
+    }
+
+    /**
+     * Autenticação compartilhada pelo lote. O future é publicado no mapa antes da chamada,
+     * que roda fora do lock do ConcurrentHashMap; o cache de tokens já coalesce chamadas simultâneas.
+     */
+    private Map<String, Object> authenticationData(
+            Map<Long, CompletableFuture<Map<String, Object>>> authentications, Long authenticationId) {
+        CompletableFuture<Map<String, Object>> authentication = authentications.get(authenticationId);
+        if (authentication == null) {
+            CompletableFuture<Map<String, Object>> loading = new CompletableFuture<>();
+            authentication = authentications.putIfAbsent(authenticationId, loading);
+            if (authentication == null) {
+                authentication = loading;
+                apiAuthenticationService.getAuthenticationDataAsync(authenticationId)
+                        .whenComplete((data, error) -> {
+                            if (error != null) {
+                                loading.completeExceptionally(error);
+                            } else {
+                                loading.complete(data);
+                            }
+                        });
+            }
+        }
+        try {
+            return authentication.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
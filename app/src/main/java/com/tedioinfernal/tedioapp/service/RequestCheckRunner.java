@@ -0,0 +1,207 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.dto.RequestTestResponseDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa as verificações agendadas (request_checks) como probes das integrações.
+ * Com várias réplicas, cada verificação roda uma única vez por tick: a réplica reivindica as linhas vencidas com
+ * SELECT ... FOR UPDATE SKIP LOCKED e avança next_run_at na mesma transação, então as demais
+ * pulam as linhas travadas e, após o commit, já veem a próxima execução no futuro.
+ * O resultado vai para o histórico (via RequestService), para métricas e para as colunas last_* da verificação.
+ */
+@Component
+@ConditionalOnProperty(name = "request.check.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RequestCheckRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RequestCheckSchedule requestCheckSchedule;
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
+    private final RequestService requestService;
+    private final ApiAuthenticationService apiAuthenticationService;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, AtomicInteger> upStates = new ConcurrentHashMap<>();
+    private final int poolSize;
+    private final ThreadPoolExecutor executor;
+
+    public RequestCheckRunner(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            RequestCheckSchedule requestCheckSchedule,
+            RequestExecutionPlanCache requestExecutionPlanCache,
+            RequestService requestService,
+            ApiAuthenticationService apiAuthenticationService,
+            MeterRegistry meterRegistry,
+            @Value("${request.check.pool-size:4}") int poolSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.requestCheckSchedule = requestCheckSchedule;
+        this.requestExecutionPlanCache = requestExecutionPlanCache;
+        this.requestService = requestService;
+        this.apiAuthenticationService = apiAuthenticationService;
+        this.meterRegistry = meterRegistry;
+        this.poolSize = poolSize;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "request-check-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Scheduled(fixedDelayString = "${request.check.poll-interval-ms:1000}")
+    public void runDueChecks() {
+        // Só reivindica o que esta réplica consegue executar agora; o restante fica para as outras
+        int capacity = poolSize - executor.getActiveCount() - executor.getQueue().size();
+        if (capacity <= 0) {
+            return;
+        }
+        try {
+            List<DueCheck> claimed = transactionTemplate.execute(status -> claim(capacity));
+            if (claimed != null) {
+                claimed.forEach(check -> executor.execute(() -> run(check)));
+            }
+        } catch (Exception e) {
+            log.error("Failed to claim due request checks: {}", e.getMessage());
+        }
+    }
+
+    private List<DueCheck> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DueCheck> due = jdbcTemplate.query("""
+                SELECT id, request_id, interval_seconds, cron_expression
+                FROM request_checks
+                WHERE enabled AND next_run_at <= ?
+                ORDER BY next_run_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new DueCheck(
+                        rs.getLong("id"),
+                        rs.getLong("request_id"),
+                        (Integer) rs.getObject("interval_seconds"),
+                        rs.getString("cron_expression")),
+                Timestamp.valueOf(now), limit);
+
+        if (!due.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE request_checks SET next_run_at = ? WHERE id = ?", due, due.size(),
+                    (ps, check) -> {
+                        ps.setTimestamp(1, Timestamp.valueOf(requestCheckSchedule.nextRun(
+                                check.getRequestId(), check.getIntervalSeconds(), check.getCronExpression(), now)));
+                        ps.setLong(2, check.getId());
+                    });
+        }
+        return due;
+    }
+
+    private void run(DueCheck check) {
+        long startTime = System.currentTimeMillis();
+        RequestTestResponseDTO result;
+        try {
+            // Probe sempre vai ao destino: sem cache de response e sem hedge mascarando a latência
+            RequestExecutionPlan plan = requestExecutionPlanCache.getPlan(check.getRequestId()).toBuilder()
+                    .cacheEnabled(false)
+                    .hedgeEnabled(false)
+                    .build();
+            Map<String, Object> authenticationData = plan.requiresAuthentication()
+                    ? apiAuthenticationService.getAuthenticationData(plan.getAuthenticationId())
+                    : Map.of();
+            result = requestService.executePlan(plan, authenticationData, Map.of());
+        } catch (Exception e) {
+            result = RequestTestResponseDTO.builder()
+                    .success(false)
+                    .statusCode(0)
+                    .errorMessage(e.getMessage())
+                    .responseTimeMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+
+        if (!result.isSuccess()) {
+            log.warn("Request check {} failed for request ID {}: status {} {}", check.getId(), check.getRequestId(),
+                    result.getStatusCode(), result.getErrorMessage() != null ? result.getErrorMessage() : "");
+        }
+        recordMetrics(check, result);
+        recordResult(check, result);
+    }
+
+    private void recordMetrics(DueCheck check, RequestTestResponseDTO result) {
+        String requestId = String.valueOf(check.getRequestId());
+        Timer.builder("request.check")
+                .description("Execuções de verificações sintéticas agendadas")
+                .tag("request", requestId)
+                .tag("result", result.isSuccess() ? "success" : "failure")
+                .register(meterRegistry)
+                .record(result.getResponseTimeMs(), TimeUnit.MILLISECONDS);
+
+        upStates.computeIfAbsent(check.getRequestId(), id -> {
+            AtomicInteger state = new AtomicInteger();
+            Gauge.builder("request.check.up", state, AtomicInteger::get)
+                    .description("Resultado da última verificação (1 = sucesso, 0 = falha)")
+                    .tag("request", requestId)
+                    .register(meterRegistry);
+            return state;
+        }).set(result.isSuccess() ? 1 : 0);
+    }
+
+    private void recordResult(DueCheck check, RequestTestResponseDTO result) {
+        String error = result.getErrorMessage();
+        try {
+            jdbcTemplate.update("""
+                    UPDATE request_checks
+                    SET last_run_at = ?, last_status_code = ?, last_success = ?, last_latency_ms = ?, last_error = ?
+                    WHERE id = ?
+                    """,
+                    Timestamp.valueOf(LocalDateTime.now()),
+                    result.getStatusCode(),
+                    result.isSuccess(),
+                    result.getResponseTimeMs(),
+                    error != null && error.length() > 1000 ? error.substring(0, 1000) : error,
+                    check.getId());
+        } catch (Exception e) {
+            log.warn("Failed to record result of request check {}: {}", check.getId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class DueCheck {
+        private final Long id;
+        private final Long requestId;
+        private final Integer intervalSeconds;
+        private final String cronExpression;
+    }
+}
@@ -0,0 +1,52 @@
+package com.tedioinfernal.tedioapp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Calcula a próxima execução de uma verificação agendada.
+ * Cada verificação tem uma fase fixa derivada do ID da request, então verificações com o mesmo
+ * intervalo (ou o mesmo cron) ficam distribuídas ao longo do período em vez de dispararem juntas.
+ * Ticks perdidos (aplicação parada) não são recuperados: a próxima execução é sempre o próximo tick futuro.
+ */
+@Component
+public class RequestCheckSchedule {
+
+    private final long cronSpreadSeconds;
+
+    public RequestCheckSchedule(@Value("${request.check.cron-spread-seconds:30}") long cronSpreadSeconds) {
+        this.cronSpreadSeconds = cronSpreadSeconds;
+    }
+
+    public static boolean isValidCron(String cronExpression) {
+        return CronExpression.isValidExpression(cronExpression);
+    }
+
+    public LocalDateTime nextRun(Long requestId, Integer intervalSeconds, String cronExpression, LocalDateTime after) {
+        if (cronExpression != null) {
+            long offset = phase(requestId, cronSpreadSeconds + 1);
+            LocalDateTime next = CronExpression.parse(cronExpression).next(after.minusSeconds(offset));
+            if (next == null) {
+                throw new RuntimeException("Expressão cron sem próxima execução: " + cronExpression);
+            }
+            return next.plusSeconds(offset);
+        }
+
+        // Ticks em epoch ≡ fase (mod intervalo)
+        ZoneId zone = ZoneId.systemDefault();
+        long interval = intervalSeconds;
+        long now = after.atZone(zone).toEpochSecond();
+        long phase = phase(requestId, interval);
+        long next = now - Math.floorMod(now - phase, interval) + interval;
+        return LocalDateTime.ofEpochSecond(next, 0, zone.getRules().getOffset(after));
+    }
+
+    private static long phase(Long requestId, long period) {
+        // Mistura o ID (Fibonacci hashing) para IDs sequenciais caírem espalhados no período
+        return Math.floorMod(requestId * 0x9E3779B97F4A7C15L >>> 16, period);
+    }
+}
@@ -0,0 +1,145 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.dto.RequestCheckRequestDTO;
+import com.tedioinfernal.tedioapp.dto.RequestCheckResponseDTO;
+import com.tedioinfernal.tedioapp.entity.Request;
+import com.tedioinfernal.tedioapp.entity.RequestCheck;
+import com.tedioinfernal.tedioapp.repository.RequestCheckRepository;
+import com.tedioinfernal.tedioapp.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RequestCheckService {
+
+    private final RequestCheckRepository requestCheckRepository;
+    private final RequestRepository requestRepository;
+    private final RequestCheckSchedule requestCheckSchedule;
+
+    @Transactional
+    public RequestCheckResponseDTO createRequestCheck(RequestCheckRequestDTO requestDTO) {
+        log.info("Creating request check for request ID: {}", requestDTO.getRequestId());
+
+        validateSchedule(requestDTO);
+
+        Request request = requestRepository.findById(requestDTO.getRequestId())
+                .orElseThrow(() -> new RuntimeException("Request não encontrada"));
+
+        if (requestCheckRepository.existsByRequestId(request.getId())) {
+            throw new RuntimeException("Já existe uma verificação para esta request");
+        }
+
+        RequestCheck requestCheck = RequestCheck.builder()
+                .request(request)
+                .intervalSeconds(requestDTO.getIntervalSeconds())
+                .cronExpression(requestDTO.getCronExpression())
+                .enabled(requestDTO.getEnabled() == null || requestDTO.getEnabled())
+                .nextRunAt(nextRun(request.getId(), requestDTO))
+                .build();
+
+        RequestCheck savedCheck = requestCheckRepository.save(requestCheck);
+        log.info("Request check created successfully with ID: {}", savedCheck.getId());
+
+        return mapToResponseDTO(savedCheck);
+    }
+
+    @Transactional(readOnly = true)
+    public RequestCheckResponseDTO getRequestCheckById(Long id) {
+        log.info("Fetching request check with ID: {}", id);
+        RequestCheck requestCheck = requestCheckRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Verificação não encontrada"));
+        return mapToResponseDTO(requestCheck);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestCheckResponseDTO> getAllRequestChecks() {
+        log.info("Fetching all request checks");
+        return requestCheckRepository.findAll().stream()
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public RequestCheckResponseDTO updateRequestCheck(Long id, RequestCheckRequestDTO requestDTO) {
+        log.info("Updating request check with ID: {}", id);
+
+        validateSchedule(requestDTO);
+
+        RequestCheck requestCheck = requestCheckRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Verificação não encontrada"));
+
+        if (!requestCheck.getRequest().getId().equals(requestDTO.getRequestId())) {
+            throw new RuntimeException("A request de uma verificação não pode ser alterada");
+        }
+
+        requestCheck.setIntervalSeconds(requestDTO.getIntervalSeconds());
+        requestCheck.setCronExpression(requestDTO.getCronExpression());
+        if (requestDTO.getEnabled() != null) {
+            requestCheck.setEnabled(requestDTO.getEnabled());
+        }
+        requestCheck.setNextRunAt(nextRun(requestCheck.getRequest().getId(), requestDTO));
+
+        RequestCheck updatedCheck = requestCheckRepository.save(requestCheck);
+        log.info("Request check updated successfully with ID: {}", updatedCheck.getId());
+
+        return mapToResponseDTO(updatedCheck);
+    }
+
+    @Transactional
+    public void deleteRequestCheck(Long id) {
+        log.info("Deleting request check with ID: {}", id);
+
+        if (!requestCheckRepository.existsById(id)) {
+            throw new RuntimeException("Verificação não encontrada");
+        }
+
+        requestCheckRepository.deleteById(id);
+        log.info("Request check deleted successfully with ID: {}", id);
+    }
+
+    private void validateSchedule(RequestCheckRequestDTO requestDTO) {
+        boolean hasInterval = requestDTO.getIntervalSeconds() != null;
+        boolean hasCron = requestDTO.getCronExpression() != null && !requestDTO.getCronExpression().isBlank();
+        if (hasInterval == hasCron) {
+            throw new RuntimeException("Informe o intervalo em segundos ou a expressão cron (apenas um dos dois)");
+        }
+        if (hasCron && !RequestCheckSchedule.isValidCron(requestDTO.getCronExpression())) {
+            throw new RuntimeException("Expressão cron inválida: " + requestDTO.getCronExpression());
+        }
+        if (!hasCron) {
+            requestDTO.setCronExpression(null);
+        }
+    }
+
+    private LocalDateTime nextRun(Long requestId, RequestCheckRequestDTO requestDTO) {
+        return requestCheckSchedule.nextRun(requestId, requestDTO.getIntervalSeconds(),
+                requestDTO.getCronExpression(), LocalDateTime.now());
+    }
+
+    private RequestCheckResponseDTO mapToResponseDTO(RequestCheck requestCheck) {
+        return RequestCheckResponseDTO.builder()
+                .id(requestCheck.getId())
+                .requestId(requestCheck.getRequest().getId())
+                .requestNome(requestCheck.getRequest().getNome())
+                .intervalSeconds(requestCheck.getIntervalSeconds())
+                .cronExpression(requestCheck.getCronExpression())
+                .enabled(requestCheck.getEnabled())
+                .nextRunAt(requestCheck.getNextRunAt())
+                .lastRunAt(requestCheck.getLastRunAt())
+                .lastStatusCode(requestCheck.getLastStatusCode())
+                .lastSuccess(requestCheck.getLastSuccess())
+                .lastLatencyMs(requestCheck.getLastLatencyMs())
+                .lastError(requestCheck.getLastError())
+                .createdAt(requestCheck.getCreatedAt())
+                .updatedAt(requestCheck.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.tedioinfernal.tedioapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava o histórico de execuções em segundo plano.
+ * record() apenas enfileira em memória (nunca bloqueia a thread da request); uma thread dedicada
+ * esvazia a fila em lotes JDBC. Com a fila cheia o registro é descartado e contado em métrica.
+ */
+@Component
+@Slf4j
+public class RequestExecutionHistoryWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO request_executions (request_id, integration_id, http_method, status_code, success, latency_ms,
+                                            attempts, request_size, response_size, cache_status, error_message, executed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<RequestExecutionRecord> queue;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public RequestExecutionHistoryWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${request.history.enabled:true}") boolean enabled,
+            @Value("${request.history.queue-capacity:10000}") int queueCapacity,
+            @Value("${request.history.batch-size:500}") int batchSize,
+            @Value("${request.history.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.writtenCounter = Counter.builder("request.history.records")
+                .description("Registros do histórico de execuções")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("request.history.records")
+                .description("Registros do histórico de execuções")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("request.history.records")
+                .description("Registros do histórico de execuções")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("request.history.queue.size", queue, BlockingQueue::size)
+                .description("Registros aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Request execution history disabled");
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::run, "request-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Enfileira o registro sem bloquear
+     */
+    public void record(RequestExecutionRecord record) {
+        if (!enabled) {
+            return;
+        }
+        if (!queue.offer(record)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void run() {
+        List<RequestExecutionRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                RequestExecutionRecord first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // Interrompido no desligamento: o laço grava o que restou na fila
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<RequestExecutionRecord> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+                ps.setLong(1, record.getRequestId());
+                ps.setObject(2, record.getIntegrationId(), Types.BIGINT);
+                ps.setString(3, record.getHttpMethod());
+                ps.setInt(4, record.getStatusCode());
+                ps.setBoolean(5, record.isSuccess());
+                ps.setLong(6, record.getLatencyMs());
+                ps.setObject(7, record.getAttempts(), Types.INTEGER);
+                ps.setObject(8, record.getRequestSize(), Types.INTEGER);
+                ps.setObject(9, record.getResponseSize(), Types.BIGINT);
+                ps.setString(10, record.getCacheStatus());
+                ps.setString(11, truncate(record.getErrorMessage()));
+                ps.setTimestamp(12, Timestamp.valueOf(record.getExecutedAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} request execution records: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private String truncate(String value) {
+        return value != null && value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
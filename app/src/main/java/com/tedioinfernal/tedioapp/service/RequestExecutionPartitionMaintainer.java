@@ -0,0 +1,84 @@
+package com.tedioinfernal.tedioapp.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Mantém as partições diárias de request_executions: cria as dos próximos dias
+ * e remove (DROP, sem DELETE linha a linha) as mais antigas que a retenção.
+ */
+@Component
+@Slf4j
+public class RequestExecutionPartitionMaintainer {
+
+    private static final String PARTITION_PREFIX = "request_executions_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int daysAhead;
+
+    public RequestExecutionPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${request.history.retention-days:30}") int retentionDays,
+            @Value("${request.history.partitions-ahead-days:3}") int daysAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.daysAhead = daysAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${request.history.maintenance-cron:0 10 0 * * *}")
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+        try {
+            for (int day = 0; day <= daysAhead; day++) {
+                jdbcTemplate.execute("SELECT create_request_executions_partition(DATE '" + today.plusDays(day) + "')");
+            }
+            dropExpiredPartitions(today.minusDays(retentionDays));
+        } catch (Exception e) {
+            log.error("Failed to maintain request execution partitions: {}", e.getMessage());
+        }
+    }
+
+    private void dropExpiredPartitions(LocalDate oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON pg_inherits.inhparent = parent.oid
+                JOIN pg_class child ON pg_inherits.inhrelid = child.oid
+                WHERE parent.relname = 'request_executions'
+                """, String.class);
+
+        for (String partition : partitions) {
+            if (!partition.startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            LocalDate day;
+            try {
+                day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (day.isBefore(oldestKept)) {
+                // Nome vem do catálogo e foi validado pelo formato da data
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped request execution partition {}", partition);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.enums.HttpMethod;
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Plano de execução pré-compilado de uma Request.
+ * Contém tudo que o teste precisa (URL final, headers, body serializado) sem acesso ao banco nem re-parse.
+ * URL, headers e body são templates pré-compilados; só as variáveis ${} são resolvidas a cada execução.
+ */
+@Value
+@Builder(toBuilder = true)
+public class RequestExecutionPlan {
+
+    Long requestId;
+    Long pathId;
+    Long integrationId;
+    Long authenticationId;
+    IntegrationHttpSettings httpSettings;
+    HttpMethod httpMethod;
+    String fullUrl;
+    VariableTemplate url;
+    List<Header> headers;
+    String contentType;
+    VariableTemplate body;
+    UnaryOperator<String> bodyEncoder;
+    Object requestBodyView;
+    Map<String, String> requestParams;
+    boolean cacheEnabled;
+    Integer cacheTtlSeconds;
+    RequestRetryPolicy retryPolicy;
+    boolean hedgeEnabled;
+    ReplayMode replayMode;
+    /**
+     * Execução de teste de carga: usa circuit breaker / bulkhead próprios, separados do tráfego real
+     */
+    boolean loadTest;
+
+    public boolean hasBody() {
+        return body != null;
+    }
+
+    /**
+     * Em REPLAY a autenticação não é resolvida: a reprodução não faz nenhuma chamada de rede
+     */
+    public boolean requiresAuthentication() {
+        return authenticationId != null && replayMode != ReplayMode.REPLAY;
+    }
+
+    @Value
+    public static class Header {
+        String name;
+        VariableTemplate value;
+    }
+}
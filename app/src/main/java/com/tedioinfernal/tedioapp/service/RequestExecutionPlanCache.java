@@ -0,0 +1,78 @@
+package com.tedioinfernal.tedioapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantém em memória os planos de execução compilados por Request ID.
+ * Invalidado pelas alterações em Request, Path e Integration.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RequestExecutionPlanCache {
+
+    private final RequestExecutionPlanCompiler compiler;
+    private final Map<Long, RequestExecutionPlan> plans = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public RequestExecutionPlan getPlan(Long requestId) {
+        RequestExecutionPlan plan = plans.get(requestId);
+        if (plan != null) {
+            return plan;
+        }
+
+        // Só guarda o plano se nenhuma invalidação ocorreu durante a compilação
+        long startGeneration = generation.get();
+        RequestExecutionPlan compiled = compiler.compile(requestId);
+        synchronized (this) {
+            if (generation.get() == startGeneration) {
+                plans.putIfAbsent(requestId, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    public void invalidateRequest(Long requestId) {
+        invalidate(() -> plans.remove(requestId));
+        log.debug("Execution plan invalidated for request ID: {}", requestId);
+    }
+
+    public void invalidatePath(Long pathId) {
+        invalidate(() -> plans.values().removeIf(plan -> pathId.equals(plan.getPathId())));
+        log.debug("Execution plans invalidated for path ID: {}", pathId);
+    }
+
+    public void invalidateIntegration(Long integrationId) {
+        invalidate(() -> plans.values().removeIf(plan -> integrationId.equals(plan.getIntegrationId())));
+        log.debug("Execution plans invalidated for integration ID: {}", integrationId);
+    }
+
+    /**
+     * Invalida imediatamente e novamente após o commit, para descartar planos
+     * compilados com dados antigos enquanto a transação ainda estava aberta
+     */
+    private void invalidate(Runnable removal) {
+        apply(removal);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(removal);
+                }
+            });
+        }
+    }
+
+    private synchronized void apply(Runnable removal) {
+        generation.incrementAndGet();
+        removal.run();
+    }
+}
@@ -0,0 +1,212 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tedioinfernal.tedioapp.entity.Integration;
+import com.tedioinfernal.tedioapp.entity.Path;
+import com.tedioinfernal.tedioapp.entity.Request;
+import com.tedioinfernal.tedioapp.enums.HttpMethod;
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
+import com.tedioinfernal.tedioapp.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Compila Request + Path + Integration em um RequestExecutionPlan imutável
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RequestExecutionPlanCompiler {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+    private final RequestRepository requestRepository;
+    private final ObjectMapper objectMapper;
+    private final IntegrationHttpClientRegistry integrationHttpClientRegistry;
+
+    @Value("${request.retry.max-attempts:3}")
+    private int defaultRetryMaxAttempts;
+
+    @Value("${request.retry.base-delay-ms:200}")
+    private long defaultRetryBaseDelayMs;
+
+    @Value("${request.retry.max-delay-ms:5000}")
+    private long defaultRetryMaxDelayMs;
+
+    @Value("${request.retry.status-codes:429,502,503,504}")
+    private String defaultRetryStatusCodes;
+
+    @Value("${request.retry.max-total-ms:75000}")
+    private long retryMaxTotalMs;
+
+    @Transactional(readOnly = true)
+    public RequestExecutionPlan compile(Long requestId) {
+        log.debug("Compiling execution plan for request ID: {}", requestId);
+
+        Request request = requestRepository.findById(requestId)
+                .orElseThrow(() -> new RuntimeException("Request não encontrada"));
+
+        Path path = request.getPath();
+        Integration integration = path.getIntegration();
+        Map<String, Object> requestExample = request.getRequestExample();
+
+        // Monta URL completa: baseUrl + path
+        String fullUrl = integration.getBaseUrl() + path.getPath();
+
+        List<RequestExecutionPlan.Header> headers = new ArrayList<>();
+
+        // Headers da integração
+        if (integration.getHeaders() != null) {
+            integration.getHeaders().forEach((key, value) ->
+                    headers.add(new RequestExecutionPlan.Header(key, VariableTemplate.compile(value))));
+        }
+
+        // Headers da request (valores vindos do requestExample)
+        if (request.getHeaderFields() != null && requestExample != null) {
+            request.getHeaderFields().keySet().stream()
+                    .filter(requestExample::containsKey)
+                    .forEach(key -> headers.add(
+                            new RequestExecutionPlan.Header(key, VariableTemplate.compile(String.valueOf(requestExample.get(key))))));
+        }
+
+        // Body baseado no requestExample
+        String body = null;
+        String contentType = null;
+        UnaryOperator<String> bodyEncoder = VariableTemplate.RAW;
+        boolean bodyless = request.getHttpMethod() == HttpMethod.GET || request.getHttpMethod() == HttpMethod.DELETE;
+        if (!bodyless && request.getContentType() != null && requestExample != null) {
+            contentType = request.getContentType().getValue();
+            if (contentType.contains("application/x-www-form-urlencoded")) {
+                body = buildFormUrlencodedBody(requestExample);
+                bodyEncoder = VariableTemplate.URL_ENCODED;
+            } else {
+                body = serialize(requestExample);
+                bodyEncoder = contentType.contains("json") ? VariableTemplate.JSON_STRING : VariableTemplate.RAW;
+            }
+        }
+
+        return RequestExecutionPlan.builder()
+                .requestId(request.getId())
+                .pathId(path.getId())
+                .integrationId(integration.getId())
+                .authenticationId(integration.getAuthentication() != null ? integration.getAuthentication().getId() : null)
+                .httpSettings(integrationHttpClientRegistry.resolveSettings(integration))
+                .httpMethod(request.getHttpMethod())
+                .fullUrl(fullUrl)
+                .url(VariableTemplate.compile(buildUrlWithParams(fullUrl, requestExample)))
+                .headers(Collections.unmodifiableList(headers))
+                .contentType(contentType)
+                .body(body != null ? VariableTemplate.compile(body) : null)
+                .bodyEncoder(bodyEncoder)
+                .requestBodyView(parseJsonToObject(body))
+                .requestParams(Collections.unmodifiableMap(extractParamsFromExample(requestExample)))
+                // Cache de response só vale para GET (idempotente e sem body)
+                .cacheEnabled(Boolean.TRUE.equals(request.getCacheEnabled()) && request.getHttpMethod() == HttpMethod.GET)
+                .cacheTtlSeconds(request.getCacheTtlSeconds())
+                .retryPolicy(resolveRetryPolicy(request, integration))
+                // Hedging duplica a chamada: só para leituras (GET/HEAD)
+                .hedgeEnabled(Boolean.TRUE.equals(request.getHedgeEnabled())
+                        && (request.getHttpMethod() == HttpMethod.GET || request.getHttpMethod() == HttpMethod.HEAD))
+                .replayMode(integration.getReplayMode() != null ? integration.getReplayMode() : ReplayMode.OFF)
+                .build();
+    }
+
+    private RequestRetryPolicy resolveRetryPolicy(Request request, Integration integration) {
+        int maxAttempts = request.getRetryMaxAttempts() != null ? request.getRetryMaxAttempts()
+                : integration.getRetryMaxAttempts() != null ? integration.getRetryMaxAttempts()
+                : defaultRetryMaxAttempts;
+        long baseDelayMs = integration.getRetryBaseDelayMs() != null ? integration.getRetryBaseDelayMs() : defaultRetryBaseDelayMs;
+        long maxDelayMs = integration.getRetryMaxDelayMs() != null ? integration.getRetryMaxDelayMs() : defaultRetryMaxDelayMs;
+        String statusCodes = integration.getRetryStatusCodes() != null ? integration.getRetryStatusCodes() : defaultRetryStatusCodes;
+
+        // Métodos idempotentes podem ser repetidos; POST/PATCH só com opt-in explícito na Request
+        boolean methodRetryable = IDEMPOTENT_METHODS.contains(request.getHttpMethod())
+                || Boolean.TRUE.equals(request.getRetryNonIdempotent());
+
+        return new RequestRetryPolicy(
+                maxAttempts,
+                Duration.ofMillis(baseDelayMs),
+                Duration.ofMillis(Math.max(maxDelayMs, baseDelayMs)),
+                Arrays.stream(statusCodes.split(","))
+                        .map(String::trim)
+                        .filter(code -> !code.isEmpty())
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toUnmodifiableSet()),
+                methodRetryable,
+                Duration.ofMillis(retryMaxTotalMs));
+    }
+
+    private String buildUrlWithParams(String baseUrl, Map<String, Object> requestExample) {
+        if (requestExample == null || !requestExample.containsKey("params")) {
+            return baseUrl;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> params = (Map<String, Object>) requestExample.get("params");
+        if (params == null || params.isEmpty()) {
+            return baseUrl;
+        }
+
+        StringBuilder url = new StringBuilder(baseUrl);
+        url.append("?");
+        params.forEach((key, value) -> url.append(key).append("=").append(value).append("&"));
+        return url.substring(0, url.length() - 1);
+    }
+
+    private String buildFormUrlencodedBody(Map<String, Object> requestExample) {
+        return requestExample.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals("params"))
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&"));
+    }
+
+    private Map<String, String> extractParamsFromExample(Map<String, Object> requestExample) {
+        if (requestExample == null || !requestExample.containsKey("params")) {
+            return new HashMap<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> params = (Map<String, Object>) requestExample.get("params");
+        Map<String, String> result = new HashMap<>();
+        if (params != null) {
+            params.forEach((key, value) -> result.put(key, String.valueOf(value)));
+        }
+        return result;
+    }
+
+    private String serialize(Map<String, Object> requestExample) {
+        try {
+            return objectMapper.writeValueAsString(requestExample);
+        } catch (Exception e) {
+            throw new RuntimeException("Falha ao serializar o body da request: " + e.getMessage(), e);
+        }
+    }
+
+    private Object parseJsonToObject(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (Exception e) {
+            return json;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tedioinfernal.tedioapp.service;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Uma linha do histórico de execuções (tabela request_executions)
+ */
+@Value
+@Builder
+public class RequestExecutionRecord {
+
+    Long requestId;
+    Long integrationId;
+    String httpMethod;
+    int statusCode;
+    boolean success;
+    long latencyMs;
+    Integer attempts;
+    Integer requestSize;
+    Long responseSize;
+    String cacheStatus;
+    String errorMessage;
+    LocalDateTime executedAt;
+}
@@ -0,0 +1,201 @@
+package com.tedioinfernal.tedioapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedging de chamadas idempotentes: se a primeira tentativa não responder dentro do percentil configurado
+ * da latência recente da Request, dispara uma segunda e usa a resposta que chegar primeiro.
+ * As tentativas extras são limitadas a uma fração das chamadas com hedging (token bucket).
+ */
+@Component
+@Slf4j
+public class RequestHedger {
+
+    private final Map<Long, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final double percentile;
+    private final int windowSize;
+    private final int minSamples;
+    private final Duration fallbackDelay;
+    private final Duration minDelay;
+    private final double maxExtraLoad;
+    private final double maxTokens;
+    private final Counter firedCounter;
+    private final Counter wonCounter;
+    private final Counter throttledCounter;
+    private double tokens;
+
+    public RequestHedger(
+            MeterRegistry meterRegistry,
+            @Value("${request.hedge.percentile:95}") double percentile,
+            @Value("${request.hedge.window-size:100}") int windowSize,
+            @Value("${request.hedge.min-samples:20}") int minSamples,
+            @Value("${request.hedge.fallback-delay-ms:500}") long fallbackDelayMs,
+            @Value("${request.hedge.min-delay-ms:50}") long minDelayMs,
+            @Value("${request.hedge.max-extra-load:0.1}") double maxExtraLoad,
+            @Value("${request.hedge.max-burst:10}") double maxBurst) {
+        this.percentile = percentile;
+        this.windowSize = windowSize;
+        this.minSamples = Math.min(minSamples, windowSize);
+        this.fallbackDelay = Duration.ofMillis(fallbackDelayMs);
+        this.minDelay = Duration.ofMillis(minDelayMs);
+        this.maxExtraLoad = maxExtraLoad;
+        this.maxTokens = maxBurst;
+        this.tokens = maxBurst;
+        this.firedCounter = Counter.builder("request.hedge")
+                .description("Tentativas de hedging")
+                .tag("result", "fired")
+                .register(meterRegistry);
+        this.wonCounter = Counter.builder("request.hedge")
+                .description("Tentativas de hedging")
+                .tag("result", "won")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("request.hedge")
+                .description("Tentativas de hedging")
+                .tag("result", "throttled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa a chamada com hedging. O resultado é a primeira resposta recebida;
+     * só falha se todas as tentativas disparadas falharem. A tentativa perdedora é cancelada.
+     */
+    public <T> CompletableFuture<T> hedge(Long requestId, Supplier<CompletableFuture<T>> call) {
+        depositToken();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> launched = new CopyOnWriteArrayList<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        long start = System.nanoTime();
+
+        launch(requestId, call, false, result, launched, pending, start);
+        // Cancelar o resultado (ex: timeout de quem chamou) cancela as tentativas em andamento
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                launched.forEach(attempt -> attempt.cancel(true));
+            }
+        });
+
+        Duration delay = delayFor(requestId);
+        CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!tryAcquireToken()) {
+                throttledCounter.increment();
+                return;
+            }
+            pending.incrementAndGet();
+            firedCounter.increment();
+            log.debug("Hedging request ID {} after {} ms", requestId, delay.toMillis());
+            launch(requestId, call, true, result, launched, pending, start);
+        });
+        return result;
+    }
+
+    private <T> void launch(
+            Long requestId,
+            Supplier<CompletableFuture<T>> call,
+            boolean hedge,
+            CompletableFuture<T> result,
+            List<CompletableFuture<T>> launched,
+            AtomicInteger pending,
+            long start) {
+
+        CompletableFuture<T> attempt;
+        try {
+            attempt = call.get();
+        } catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        launched.add(attempt);
+
+        CompletableFuture<T> current = attempt;
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                if (!hedge) {
+                    // A latência da primeira tentativa é que define o atraso do hedging
+                    record(requestId, System.nanoTime() - start);
+                }
+                if (result.complete(value)) {
+                    if (hedge) {
+                        wonCounter.increment();
+                        // A primeira tentativa é cancelada sem terminar: registra o tempo que ela já levou
+                        // (limite inferior da sua latência), senão a janela só teria as primárias rápidas
+                        // e o atraso do hedging encolheria a cada vitória
+                        record(requestId, System.nanoTime() - start);
+                    }
+                    launched.stream().filter(other -> other != current).forEach(other -> other.cancel(true));
+                }
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        });
+    }
+
+    private Duration delayFor(Long requestId) {
+        LatencyWindow window = latencies.get(requestId);
+        long nanos = window != null ? window.percentile(percentile, minSamples) : -1;
+        Duration delay = nanos >= 0 ? Duration.ofNanos(nanos) : fallbackDelay;
+        return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+    }
+
+    private void record(Long requestId, long latencyNanos) {
+        latencies.computeIfAbsent(requestId, id -> new LatencyWindow(windowSize)).add(latencyNanos);
+    }
+
+    private synchronized void depositToken() {
+        tokens = Math.min(maxTokens, tokens + maxExtraLoad);
+    }
+
+    private synchronized boolean tryAcquireToken() {
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Últimas N latências de uma Request
+     */
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int index;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long latencyNanos) {
+            samples[index] = latencyNanos;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized long percentile(double percentile, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+            return sorted[Math.max(0, Math.min(rank, count - 1))];
+        }
+    }
+}
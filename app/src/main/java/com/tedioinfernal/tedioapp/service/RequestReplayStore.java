@@ -0,0 +1,457 @@
+package com.tedioinfernal.tedioapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gravações de responses por Integration no disco local, para o modo REPLAY responder sem rede.
+ * Cada integração tem um log append-only (integration-{id}.replay) de registros
+ * [magic][tamanho][fingerprint][status][headers][body gzip]; o índice fingerprint -> posição fica em memória
+ * e é reconstruído lendo o log na primeira consulta. Regravar a mesma chamada com o mesmo response não escreve nada;
+ * com response diferente acrescenta um registro novo, que passa a valer no lugar do anterior. Quando os registros
+ * substituídos passam de metade do arquivo o log é compactado (reescrito só com os registros válidos), e um log que
+ * mesmo assim passaria de request.replay.max-file-bytes deixa de aceitar gravações novas.
+ * Um registro incompleto no fim do arquivo (queda durante a escrita) é descartado.
+ * O fingerprint é SHA-256 de método + templates de URL e body sem renderizar + variáveis da chamada referenciadas
+ * neles. Headers e dados de autenticação ficam de fora porque tokens mudam a cada execução: a rotação de um token
+ * não invalida as gravações, e o modo REPLAY nem precisa autenticar.
+ */
+@Component
+@Slf4j
+public class RequestReplayStore {
+
+    private static final int MAGIC = 0x52525031;
+    private static final int HEADER_SIZE = 8;
+    private static final long COMPACT_MIN_BYTES = 1024 * 1024;
+
+    private final Path directory;
+    private final int maxBodyBytes;
+    private final long maxFileBytes;
+    private final Map<Long, ReplayLog> logs = new ConcurrentHashMap<>();
+    private final Counter recordedCounter;
+    private final Counter unchangedCounter;
+    private final Counter rejectedCounter;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RequestReplayStore(
+            MeterRegistry meterRegistry,
+            @Value("${request.replay.directory:./replay}") String directory,
+            @Value("${request.replay.max-body-bytes:10485760}") int maxBodyBytes,
+            @Value("${request.replay.max-file-bytes:268435456}") long maxFileBytes) {
+        this.directory = Path.of(directory);
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxFileBytes = maxFileBytes;
+        this.recordedCounter = Counter.builder("request.replay")
+                .description("Gravações e reproduções de responses")
+                .tag("result", "recorded")
+                .register(meterRegistry);
+        this.unchangedCounter = Counter.builder("request.replay")
+                .description("Gravações e reproduções de responses")
+                .tag("result", "unchanged")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("request.replay")
+                .description("Gravações e reproduções de responses")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("request.replay")
+                .description("Gravações e reproduções de responses")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("request.replay")
+                .description("Gravações e reproduções de responses")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public static String fingerprint(
+            String httpMethod,
+            VariableTemplate url,
+            VariableTemplate body,
+            Map<String, Object> variables) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(httpMethod.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(url.getSource().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            Set<String> referenced = new TreeSet<>(url.getVariables());
+            if (body != null) {
+                digest.update(Objects.toString(body.getSource(), "").getBytes(StandardCharsets.UTF_8));
+                referenced.addAll(body.getVariables());
+            }
+            // Só variáveis usadas nos templates, em ordem estável
+            for (String name : referenced) {
+                Object value = variables.get(name);
+                if (value != null) {
+                    digest.update((byte) '\n');
+                    digest.update((name + "=" + value).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    public void record(Long integrationId, String fingerprint, int statusCode, Map<String, String> headers, String body) {
+        byte[] bodyBytes = body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (bodyBytes.length > maxBodyBytes) {
+            log.warn("Response of {} bytes not recorded for integration ID {} (limit {})",
+                    bodyBytes.length, integrationId, maxBodyBytes);
+            return;
+        }
+        try {
+            ReplayLog replayLog = logFor(integrationId);
+            // Mesma chamada com o mesmo response: não acrescenta outro registro
+            String contentHash = contentHash(statusCode, headers, bodyBytes);
+            if (replayLog.isRecorded(fingerprint, contentHash)) {
+                unchangedCounter.increment();
+                return;
+            }
+            if (replayLog.append(fingerprint, contentHash, encode(fingerprint, statusCode, headers, bodyBytes), maxFileBytes)) {
+                recordedCounter.increment();
+            } else {
+                rejectedCounter.increment();
+                log.warn("Replay log for integration ID {} reached the {} bytes limit, response not recorded",
+                        integrationId, maxFileBytes);
+            }
+        } catch (IOException e) {
+            log.error("Failed to record response for integration ID {}: {}", integrationId, e.getMessage());
+        }
+    }
+
+    public Optional<RecordedResponse> find(Long integrationId, String fingerprint) {
+        try {
+            Optional<RecordedResponse> recorded = logFor(integrationId).read(fingerprint);
+            (recorded.isPresent() ? hitCounter : missCounter).increment();
+            return recorded;
+        } catch (IOException e) {
+            log.error("Failed to read recorded response for integration ID {}: {}", integrationId, e.getMessage());
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    private ReplayLog logFor(Long integrationId) throws IOException {
+        ReplayLog replayLog = logs.get(integrationId);
+        if (replayLog != null) {
+            return replayLog;
+        }
+        synchronized (logs) {
+            replayLog = logs.get(integrationId);
+            if (replayLog == null) {
+                Files.createDirectories(directory);
+                replayLog = ReplayLog.open(directory.resolve("integration-" + integrationId + ".replay"));
+                logs.put(integrationId, replayLog);
+            }
+            return replayLog;
+        }
+    }
+
+    /**
+     * Digest do conteúdo gravado (status, headers em ordem estável e body), sem o horário da gravação
+     */
+    private static String contentHash(int statusCode, Map<String, String> headers, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(statusCode).getBytes(StandardCharsets.UTF_8));
+            if (headers != null) {
+                for (Map.Entry<String, String> header : new TreeMap<>(headers).entrySet()) {
+                    digest.update((byte) '\n');
+                    digest.update((header.getKey() + "=" + header.getValue()).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            digest.update((byte) 0);
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static byte[] encode(String fingerprint, int statusCode, Map<String, String> headers, byte[] body)
+            throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(body.length / 4 + 256);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeUTF(fingerprint);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(statusCode);
+        Map<String, String> safeHeaders = headers != null ? headers : Map.of();
+        out.writeInt(safeHeaders.size());
+        for (Map.Entry<String, String> header : safeHeaders.entrySet()) {
+            out.writeUTF(header.getKey());
+            out.writeUTF(header.getValue());
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+        out.flush();
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.size());
+        record.putInt(MAGIC).putInt(payload.size()).put(payload.toByteArray());
+        return record.array();
+    }
+
+    private static RecordedResponse decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        in.readUTF();
+        long recordedAt = in.readLong();
+        int statusCode = in.readInt();
+        int headerCount = in.readInt();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(in.readUTF(), in.readUTF());
+        }
+        byte[] compressed = in.readNBytes(in.readInt());
+        String body;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            body = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return new RecordedResponse(statusCode, headers, body, recordedAt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logs.values().forEach(ReplayLog::close);
+    }
+
+    @Getter
+    public static class RecordedResponse {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final String body;
+        private final long recordedAt;
+
+        RecordedResponse(int statusCode, Map<String, String> headers, String body, long recordedAt) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.recordedAt = recordedAt;
+        }
+    }
+
+    /**
+     * Log de uma integração: escrita e compactação exclusivas, leituras posicionais concorrentes
+     */
+    private static final class ReplayLog {
+        private final Path file;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private FileChannel channel;
+        private Map<String, Entry> index = new HashMap<>();
+        private long size;
+        private long deadBytes;
+
+        private ReplayLog(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        static ReplayLog open(Path file) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ReplayLog replayLog = new ReplayLog(file, channel);
+            replayLog.rebuildIndex();
+            return replayLog;
+        }
+
+        private void rebuildIndex() throws IOException {
+            long position = 0;
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (position + HEADER_SIZE <= fileSize) {
+                header.clear();
+                channel.read(header, position);
+                header.flip();
+                int magic = header.getInt();
+                int length = header.getInt();
+                if (magic != MAGIC || length < 0 || position + HEADER_SIZE + length > fileSize) {
+                    break;
+                }
+                ByteBuffer fingerprint = ByteBuffer.allocate(Math.min(length, 2 + 64));
+                channel.read(fingerprint, position + HEADER_SIZE);
+                String key = new DataInputStream(new ByteArrayInputStream(fingerprint.array())).readUTF();
+                // O digest do conteúdo só é calculado quando a mesma chamada for gravada de novo
+                Entry previous = index.put(key, new Entry(position, HEADER_SIZE + length, null));
+                if (previous != null) {
+                    deadBytes += previous.getLength();
+                }
+                position += HEADER_SIZE + length;
+            }
+            if (position < fileSize) {
+                log.warn("Discarding {} trailing bytes of incomplete record in {}", fileSize - position, file);
+                channel.truncate(position);
+            }
+            size = position;
+            log.info("Replay log {} loaded with {} recordings ({} bytes superseded)", file, index.size(), deadBytes);
+        }
+
+        /**
+         * Se a chamada já está gravada com exatamente este conteúdo
+         */
+        boolean isRecorded(String fingerprint, String contentHash) throws IOException {
+            lock.writeLock().lock();
+            try {
+                Entry entry = index.get(fingerprint);
+                if (entry == null) {
+                    return false;
+                }
+                if (entry.getContentHash() == null) {
+                    RecordedResponse recorded = decode(readPayload(entry));
+                    entry.setContentHash(RequestReplayStore.contentHash(recorded.getStatusCode(), recorded.getHeaders(),
+                            recorded.getBody().getBytes(StandardCharsets.UTF_8)));
+                }
+                return entry.getContentHash().equals(contentHash);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Acrescenta o registro, compactando antes se necessário; retorna false se o log passaria de maxFileBytes
+         */
+        boolean append(String fingerprint, String contentHash, byte[] record, long maxFileBytes) throws IOException {
+            lock.writeLock().lock();
+            try {
+                if (deadBytes > COMPACT_MIN_BYTES && deadBytes * 2 > size) {
+                    compact();
+                }
+                if (size + record.length > maxFileBytes && deadBytes > 0) {
+                    compact();
+                }
+                if (size + record.length > maxFileBytes) {
+                    return false;
+                }
+                long position = size;
+                ByteBuffer buffer = ByteBuffer.wrap(record);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, position + buffer.position());
+                }
+                size += record.length;
+                Entry previous = index.put(fingerprint, new Entry(position, record.length, contentHash));
+                if (previous != null) {
+                    deadBytes += previous.getLength();
+                }
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Optional<RecordedResponse> read(String fingerprint) throws IOException {
+            lock.readLock().lock();
+            try {
+                Entry entry = index.get(fingerprint);
+                if (entry == null) {
+                    return Optional.empty();
+                }
+                return Optional.of(decode(readPayload(entry)));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private byte[] readPayload(Entry entry) throws IOException {
+            ByteBuffer payload = ByteBuffer.allocate(entry.getLength() - HEADER_SIZE);
+            long start = entry.getPosition() + HEADER_SIZE;
+            while (payload.hasRemaining()) {
+                if (channel.read(payload, start + payload.position()) < 0) {
+                    throw new IOException("Registro incompleto em " + file);
+                }
+            }
+            return payload.array();
+        }
+
+        /**
+         * Reescreve o log só com os registros válidos e troca o arquivo de forma atômica
+         */
+        private void compact() throws IOException {
+            Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+            Map<String, Entry> compactedIndex = new HashMap<>();
+            long position = 0;
+            try (FileChannel out = FileChannel.open(compacted,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (Map.Entry<String, Entry> live : index.entrySet()) {
+                    Entry entry = live.getValue();
+                    long copied = 0;
+                    while (copied < entry.getLength()) {
+                        copied += channel.transferTo(entry.getPosition() + copied, entry.getLength() - copied, out);
+                    }
+                    compactedIndex.put(live.getKey(), new Entry(position, entry.getLength(), entry.getContentHash()));
+                    position += entry.getLength();
+                }
+                out.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // Se a troca falhar o arquivo original continua válido com o índice atual
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            log.info("Replay log {} compacted from {} to {} bytes", file, size, position);
+            index = compactedIndex;
+            size = position;
+            deadBytes = 0;
+        }
+
+        void close() {
+            lock.writeLock().lock();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Error closing replay log {}: {}", file, e.getMessage());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Entry {
+        private final long position;
+        private final int length;
+        @Setter
+        private String contentHash;
+    }
+}
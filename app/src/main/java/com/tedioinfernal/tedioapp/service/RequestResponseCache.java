@@ -0,0 +1,215 @@
+package com.tedioinfernal.tedioapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache de responses de Requests GET com cache habilitado.
+ * A chave é a URL já renderizada mais a identidade de autenticação e os headers renderizados;
+ * entradas expiradas são mantidas para revalidação condicional (If-None-Match / If-Modified-Since)
+ * até serem removidas por LRU.
+ * O tamanho é limitado por quantidade de entradas e por total de bytes de body.
+ */
+@Component
+@Slf4j
+public class RequestResponseCache {
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Duration defaultTtl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter revalidatedCounter;
+    private final Counter evictionCounter;
+    private long totalBytes;
+
+    public RequestResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${request.response-cache.max-entries:1000}") int maxEntries,
+            @Value("${request.response-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${request.response-cache.default-ttl-seconds:60}") long defaultTtlSeconds) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.hitCounter = Counter.builder("request.response.cache")
+                .description("Execuções de requests com cache de response")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("request.response.cache")
+                .description("Execuções de requests com cache de response")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.revalidatedCounter = Counter.builder("request.response.cache")
+                .description("Execuções de requests com cache de response")
+                .tag("result", "revalidated")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("request.response.cache.evictions")
+                .description("Responses removidos do cache por limite de tamanho")
+                .register(meterRegistry);
+        Gauge.builder("request.response.cache.size", this, RequestResponseCache::size)
+                .description("Quantidade de responses em cache")
+                .register(meterRegistry);
+        Gauge.builder("request.response.cache.bytes", this, RequestResponseCache::bytes)
+                .description("Total de bytes de body em cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Chave da entrada: Request, autenticação, URL renderizada e digest dos headers que dependem de variáveis
+     * (token, variáveis da chamada), para que identidades diferentes nunca compartilhem o mesmo response
+     */
+    public static String key(Long requestId, Long authenticationId, String url, List<String> renderedHeaders) {
+        String key = requestId + "|" + (authenticationId != null ? authenticationId : "-") + "|" + url;
+        if (renderedHeaders.isEmpty()) {
+            return key;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String header : renderedHeaders) {
+                digest.update(header.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return key + "|" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    public Duration resolveTtl(Integer ttlSeconds) {
+        return ttlSeconds != null ? Duration.ofSeconds(ttlSeconds) : defaultTtl;
+    }
+
+    /**
+     * Retorna a entrada (válida ou expirada) para a chave. Só entradas válidas contam como hit;
+     * ausente ou expirada conta como miss, mesmo que depois seja revalidada.
+     */
+    public synchronized CachedResponse lookup(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.isFresh(Instant.now())) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Armazena um response novo vindo do destino
+     */
+    public synchronized void store(String key, CachedResponse response) {
+        if (response.getSize() > maxBytes) {
+            log.debug("Response for {} too large to be cached ({} bytes)", key, response.getSize());
+            remove(key);
+            return;
+        }
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.getSize();
+        }
+        totalBytes += response.getSize();
+        evictIfNeeded();
+    }
+
+    /**
+     * Destino respondeu 304: renova a validade da entrada existente sem trocar o body
+     */
+    public synchronized CachedResponse revalidated(String key, CachedResponse cached, Duration ttl) {
+        revalidatedCounter.increment();
+        CachedResponse renewed = cached.renew(Instant.now().plus(ttl));
+        if (entries.containsKey(key)) {
+            entries.put(key, renewed);
+        }
+        return renewed;
+    }
+
+    /**
+     * Remove todas as entradas de uma Request (alteração ou exclusão cadastral)
+     */
+    public synchronized void invalidateRequest(Long requestId) {
+        String prefix = requestId + "|";
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                totalBytes -= entry.getValue().getSize();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.getSize();
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, CachedResponse> eldest = iterator.next();
+            totalBytes -= eldest.getValue().getSize();
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized long bytes() {
+        return totalBytes;
+    }
+
+    @Getter
+    public static class CachedResponse {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final String body;
+        private final String etag;
+        private final String lastModified;
+        private final Instant expiresAt;
+        private final long size;
+
+        public CachedResponse(int statusCode, Map<String, String> headers, String body,
+                              String etag, String lastModified, Instant expiresAt) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+            this.size = body != null ? body.length() * 2L : 0;
+        }
+
+        public boolean isFresh(Instant now) {
+            return expiresAt.isAfter(now);
+        }
+
+        public boolean canRevalidate() {
+            return etag != null || lastModified != null;
+        }
+
+        CachedResponse renew(Instant newExpiresAt) {
+            return new CachedResponse(statusCode, headers, body, etag, lastModified, newExpiresAt);
+        }
+    }
+}
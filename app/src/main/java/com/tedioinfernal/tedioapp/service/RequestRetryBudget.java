@@ -0,0 +1,84 @@
+package com.tedioinfernal.tedioapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Orçamento global de retries (token bucket).
+ * Cada chamada nova deposita uma fração de token e cada retry consome um token inteiro, então os retries
+ * ficam limitados a uma proporção do tráfego real; uma taxa mínima por segundo garante retries com pouco tráfego.
+ * Durante uma queda geral o orçamento se esgota e as falhas voltam direto ao chamador, sem multiplicar a carga.
+ */
+@Component
+@Slf4j
+public class RequestRetryBudget {
+
+    private final double depositPerRequest;
+    private final double minRetriesPerSecond;
+    private final double maxTokens;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    public RequestRetryBudget(
+            MeterRegistry meterRegistry,
+            @Value("${request.retry.budget.ratio:0.2}") double depositPerRequest,
+            @Value("${request.retry.budget.min-per-second:5}") double minRetriesPerSecond,
+            @Value("${request.retry.budget.max-tokens:100}") double maxTokens) {
+        this.depositPerRequest = depositPerRequest;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+        this.retryCounter = Counter.builder("request.retry")
+                .description("Retries executados")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("request.retry")
+                .description("Retries executados")
+                .tag("result", "budget_exhausted")
+                .register(meterRegistry);
+        Gauge.builder("request.retry.budget.tokens", this, RequestRetryBudget::available)
+                .description("Retries disponíveis no orçamento global")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra uma chamada nova (primeira tentativa)
+     */
+    public synchronized void recordRequest() {
+        refill();
+        tokens = Math.min(maxTokens, tokens + depositPerRequest);
+    }
+
+    /**
+     * Tenta consumir um retry do orçamento
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            retryCounter.increment();
+            return true;
+        }
+        exhaustedCounter.increment();
+        log.warn("Retry budget exhausted, returning failure without retry");
+        return false;
+    }
+
+    private synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000d;
+        lastRefillNanos = now;
+        tokens = Math.min(maxTokens, tokens + elapsedSeconds * minRetriesPerSecond);
+    }
+}
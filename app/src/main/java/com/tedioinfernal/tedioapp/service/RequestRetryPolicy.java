@@ -0,0 +1,50 @@
+package com.tedioinfernal.tedioapp.service;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Política de retry já resolvida de uma Request (Request > Integration > padrões da aplicação).
+ * Backoff exponencial com full jitter, limitado por maxDelay; Retry-After do destino é respeitado até maxDelay.
+ * maxTotalTime limita a chamada inteira (tentativas + esperas): uma nova tentativa só sai se ela,
+ * somada ao backoff e aos timeouts de conexão e leitura, ainda couber no prazo.
+ */
+@Value
+public class RequestRetryPolicy {
+
+    int maxAttempts;
+    Duration baseDelay;
+    Duration maxDelay;
+    Set<Integer> retryableStatusCodes;
+    boolean methodRetryable;
+    Duration maxTotalTime;
+
+    public boolean isEnabled() {
+        return methodRetryable && maxAttempts > 1;
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * Prazo final (System.nanoTime) de uma chamada iniciada agora
+     */
+    public long deadlineFrom(long startNanos) {
+        return startNanos + maxTotalTime.toNanos();
+    }
+
+    /**
+     * Espera antes da próxima tentativa (attempt = número da tentativa que acabou de falhar)
+     */
+    public Duration backoff(int attempt, Duration retryAfter) {
+        if (retryAfter != null && retryAfter.compareTo(maxDelay) <= 0) {
+            return retryAfter;
+        }
+        long ceiling = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
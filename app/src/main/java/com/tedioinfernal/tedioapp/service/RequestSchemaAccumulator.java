@@ -0,0 +1,299 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tedioinfernal.tedioapp.entity.Request;
+import com.tedioinfernal.tedioapp.entity.ResponseSchema;
+import com.tedioinfernal.tedioapp.entity.ResponseSchemaField;
+import com.tedioinfernal.tedioapp.enums.HttpMethod;
+import com.tedioinfernal.tedioapp.repository.RequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumula os responses observados com registerTest=true em um schema cumulativo por Request
+ * (tipos, frequência de presença e tamanhos por campo), em vez de sobrescrever responseFields a cada teste.
+ * As observações são mescladas em memória e gravadas periodicamente: uma escrita por Request por intervalo,
+ * independente de quantas execuções aconteceram nele.
+ * O schema tem um limite total de campos (responses com chaves dinâmicas, como IDs, cresceriam sem fim):
+ * atingido o limite, campos já conhecidos continuam sendo mesclados e campos novos são descartados.
+ * Uma Request cuja gravação falha seguidamente tem as observações descartadas após max-flush-attempts.
+ */
+@Component
+@Slf4j
+public class RequestSchemaAccumulator {
+
+    private static final List<HttpMethod> BODY_METHODS = List.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
+
+    private final Map<Long, PendingSchema> pending = new ConcurrentHashMap<>();
+    private final RequestRepository requestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final JsonSchemaInferrer jsonSchemaInferrer;
+    private final Counter observationCounter;
+    private final Counter writeCounter;
+    private final Counter droppedFieldsCounter;
+    private final Counter droppedWritesCounter;
+    private final int maxTotalFields;
+    private final int maxFlushAttempts;
+
+    public RequestSchemaAccumulator(
+            RequestRepository requestRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            JsonSchemaInferrer jsonSchemaInferrer,
+            MeterRegistry meterRegistry,
+            @Value("${request.schema.max-total-fields:5000}") int maxTotalFields,
+            @Value("${request.schema.max-flush-attempts:5}") int maxFlushAttempts) {
+        this.requestRepository = requestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.jsonSchemaInferrer = jsonSchemaInferrer;
+        this.maxTotalFields = maxTotalFields;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.observationCounter = Counter.builder("request.schema.observations")
+                .description("Responses mesclados no schema acumulado")
+                .register(meterRegistry);
+        this.writeCounter = Counter.builder("request.schema.writes")
+                .description("Gravações do schema acumulado no banco")
+                .register(meterRegistry);
+        this.droppedFieldsCounter = Counter.builder("request.schema.dropped")
+                .description("Observações descartadas do schema acumulado")
+                .tag("reason", "max-fields")
+                .register(meterRegistry);
+        this.droppedWritesCounter = Counter.builder("request.schema.dropped")
+                .description("Observações descartadas do schema acumulado")
+                .tag("reason", "write-failed")
+                .register(meterRegistry);
+        Gauge.builder("request.schema.pending", pending, Map::size)
+                .description("Requests com observações aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mescla um response no schema pendente da Request. body (opcional) é candidato a responseExample.
+     * Response sem campos (204, body não JSON) não entra no schema, mas a Request ainda é gravada
+     * para atualizar os bodyFields a partir do requestExample.
+     */
+    public void observe(Long requestId, JsonSchemaInference inference, String body) {
+        if (!inference.getObservations().isEmpty()) {
+            observationCounter.increment();
+        }
+        pending.compute(requestId, (id, schema) -> {
+            PendingSchema target = schema != null ? schema : new PendingSchema();
+            int dropped = target.merge(inference.getObservations(), body, maxTotalFields);
+            if (dropped > 0) {
+                droppedFieldsCounter.increment(dropped);
+            }
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${request.schema.flush-interval-ms:5000}")
+    public void flush() {
+        for (Long requestId : pending.keySet()) {
+            PendingSchema schema = pending.remove(requestId);
+            if (schema == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(requestId, schema));
+                writeCounter.increment();
+            } catch (Exception e) {
+                schema.failures++;
+                if (schema.failures >= maxFlushAttempts) {
+                    log.error("Discarding response schema of request ID {} ({} samples) after {} failed writes: {}",
+                            requestId, schema.samples, schema.failures, e.getMessage());
+                    droppedWritesCounter.increment();
+                    continue;
+                }
+                log.warn("Failed to write response schema for request ID {}: {}", requestId, e.getMessage());
+                // Devolve as observações para a próxima tentativa
+                pending.merge(requestId, schema, (current, failed) -> current.mergeWith(failed, maxTotalFields));
+            }
+        }
+    }
+
+    private void write(Long requestId, PendingSchema delta) {
+        Request request = requestRepository.findByIdForUpdate(requestId).orElse(null);
+        if (request == null) {
+            log.debug("Request ID {} removed before its response schema was written", requestId);
+            return;
+        }
+
+        if (delta.samples > 0) {
+            mergeSchema(request, delta);
+        }
+
+        // bodyFields vem do requestExample cadastrado (POST/PUT/PATCH)
+        if (request.getRequestExample() != null && BODY_METHODS.contains(request.getHttpMethod())) {
+            try {
+                Map<String, String> bodyFields = jsonSchemaInferrer.infer(objectMapper.writeValueAsString(request.getRequestExample()));
+                if (!bodyFields.isEmpty()) {
+                    request.setBodyFields(bodyFields);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to extract body fields from requestExample: {}", e.getMessage());
+            }
+        }
+
+        requestRepository.save(request);
+        log.info("Response schema of request ID {} updated with {} samples", requestId, delta.samples);
+    }
+
+    private void mergeSchema(Request request, PendingSchema delta) {
+        Long requestId = request.getId();
+        // Cópia: o JSONB precisa de uma nova instância para o Hibernate detectar a alteração
+        ResponseSchema schema = request.getResponseSchema() != null
+                ? objectMapper.convertValue(request.getResponseSchema(), ResponseSchema.class)
+                : new ResponseSchema();
+        boolean newFields = delta.fields.keySet().stream().anyMatch(key -> !schema.getFields().containsKey(key));
+
+        schema.setSamples(schema.getSamples() + delta.samples);
+        int dropped = 0;
+        for (Map.Entry<String, ResponseSchemaField> entry : delta.fields.entrySet()) {
+            ResponseSchemaField current = schema.getFields().get(entry.getKey());
+            if (current != null) {
+                mergeField(current, entry.getValue());
+            } else if (schema.getFields().size() < maxTotalFields) {
+                schema.getFields().put(entry.getKey(), entry.getValue());
+            } else {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            schema.setTruncated(true);
+            droppedFieldsCounter.increment(dropped);
+            log.warn("Response schema of request ID {} reached {} fields, {} new fields discarded",
+                    requestId, maxTotalFields, dropped);
+        }
+        schema.getFields().forEach((key, field) -> field.setPresence(presence(key, field, schema)));
+
+        Map<String, String> responseFields = new HashMap<>();
+        schema.getFields().forEach((key, field) -> responseFields.put(key, JsonSchemaInference.describe(field.getTypes().keySet())));
+        request.setResponseSchema(schema);
+        request.setResponseFields(responseFields);
+
+        // Exemplo só é trocado quando o response trouxe campos ainda não vistos
+        if (delta.example != null && (request.getResponseExample() == null || newFields)) {
+            try {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> responseExample = objectMapper.readValue(delta.example, Map.class);
+                request.setResponseExample(responseExample);
+            } catch (Exception e) {
+                log.warn("Failed to parse response as JSON for example: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Ocorrências do campo sobre as ocorrências do objeto pai; elementos de array não têm presença
+     */
+    private static Double presence(String key, ResponseSchemaField field, ResponseSchema schema) {
+        if (key.endsWith("[]")) {
+            return null;
+        }
+        int separator = key.lastIndexOf('.');
+        long parentCount;
+        if (separator < 0) {
+            parentCount = schema.getSamples();
+        } else {
+            ResponseSchemaField parent = schema.getFields().get(key.substring(0, separator));
+            parentCount = parent != null ? parent.getCount() : 0;
+        }
+        return parentCount > 0 ? Math.min(1.0, (double) field.getCount() / parentCount) : null;
+    }
+
+    private static ResponseSchemaField mergeField(ResponseSchemaField current, ResponseSchemaField delta) {
+        current.setCount(current.getCount() + delta.getCount());
+        delta.getTypes().forEach((type, count) -> current.getTypes().merge(type, count, Long::sum));
+        current.setMinSize(min(current.getMinSize(), delta.getMinSize()));
+        current.setMaxSize(max(current.getMaxSize(), delta.getMaxSize()));
+        return current;
+    }
+
+    private static Long min(Long a, Long b) {
+        return a == null ? b : b == null ? a : Long.valueOf(Math.min(a, b));
+    }
+
+    private static Long max(Long a, Long b) {
+        return a == null ? b : b == null ? a : Long.valueOf(Math.max(a, b));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static final class PendingSchema {
+        private final Map<String, ResponseSchemaField> fields = new HashMap<>();
+        private long samples;
+        private String example;
+        private int failures;
+
+        /**
+         * Mescla as observações; retorna quantos campos novos foram descartados por exceder maxFields
+         */
+        int merge(Map<String, JsonSchemaInference.Observation> observations, String body, int maxFields) {
+            if (observations.isEmpty()) {
+                // Só marca a Request para gravação (bodyFields); não conta como amostra do schema
+                return 0;
+            }
+            boolean newFields = false;
+            int dropped = 0;
+            for (Map.Entry<String, JsonSchemaInference.Observation> entry : observations.entrySet()) {
+                JsonSchemaInference.Observation observation = entry.getValue();
+                Map<String, Long> types = new HashMap<>();
+                observation.getTypes().forEach(type -> types.put(type, 1L));
+                ResponseSchemaField field = ResponseSchemaField.builder()
+                        .count(observation.getCount())
+                        .types(types)
+                        .minSize(observation.getMinSize())
+                        .maxSize(observation.getMaxSize())
+                        .build();
+                ResponseSchemaField current = fields.get(entry.getKey());
+                if (current != null) {
+                    mergeField(current, field);
+                } else if (fields.size() < maxFields) {
+                    fields.put(entry.getKey(), field);
+                    newFields = true;
+                } else {
+                    dropped++;
+                }
+            }
+            samples++;
+            if (body != null && (example == null || newFields)) {
+                example = body;
+            }
+            return dropped;
+        }
+
+        PendingSchema mergeWith(PendingSchema other, int maxFields) {
+            other.fields.forEach((key, field) -> {
+                ResponseSchemaField current = fields.get(key);
+                if (current != null) {
+                    mergeField(current, field);
+                } else if (fields.size() < maxFields) {
+                    fields.put(key, field);
+                }
+            });
+            samples += other.samples;
+            failures = Math.max(failures, other.failures);
+            if (example == null) {
+                example = other.example;
+            }
+            return this;
+        }
+    }
+}
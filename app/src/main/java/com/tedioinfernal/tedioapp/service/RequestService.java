@@ -1,27 +1,46 @@
 package com.tedioinfernal.tedioapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tedioinfernal.tedioapp.dto.ApiAuthenticationTestResponseDTO;
 import com.tedioinfernal.tedioapp.dto.RequestDTO;
 import com.tedioinfernal.tedioapp.dto.RequestResponseDTO;
+import com.tedioinfernal.tedioapp.dto.RequestStreamResponseDTO;
 import com.tedioinfernal.tedioapp.dto.RequestTestResponseDTO;
-import com.tedioinfernal.tedioapp.entity.ApiAuthentication;
-import com.tedioinfernal.tedioapp.entity.Integration;
 import com.tedioinfernal.tedioapp.entity.Path;
 import com.tedioinfernal.tedioapp.entity.Request;
+import com.tedioinfernal.tedioapp.enums.CacheStatus;
+import com.tedioinfernal.tedioapp.enums.CircuitState;
+import com.tedioinfernal.tedioapp.enums.ReplayMode;
+import com.tedioinfernal.tedioapp.exception.IntegrationUnavailableException;
+import com.tedioinfernal.tedioapp.exception.ResponseTooLargeException;
 import com.tedioinfernal.tedioapp.repository.PathRepository;
 import com.tedioinfernal.tedioapp.repository.RequestRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,9 +52,26 @@ public class RequestService {
     private final PathRepository pathRepository;
     private final ObjectMapper objectMapper;
     private final ApiAuthenticationService apiAuthenticationService;
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
+    private final RequestResponseCache requestResponseCache;
+    private final IntegrationHttpClientRegistry integrationHttpClientRegistry;
+    private final IntegrationCircuitBreakerRegistry integrationCircuitBreakerRegistry;
+    private final RequestRetryBudget requestRetryBudget;
+    private final RequestHedger requestHedger;
+    private final RequestExecutionHistoryWriter requestExecutionHistoryWriter;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final JsonSchemaInferrer jsonSchemaInferrer;
+    private final RequestSchemaAccumulator requestSchemaAccumulator;
+    private final RequestReplayStore requestReplayStore;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final List<String> STREAMED_HEADERS = List.of(
+            "Content-Type", "Content-Encoding", "Content-Disposition", "ETag", "Last-Modified", "Cache-Control");
+
+    @Value("${request.stream.max-bytes:52428800}")
+    private long streamMaxBytes;
+
+    @Value("${request.retry.max-total-ms:75000}")
+    private long retryMaxTotalMs;
 
     @Transactional
     public RequestResponseDTO createRequest(RequestDTO requestDTO) {
@@ -53,6 +89,11 @@ public class RequestService {
                 .headerFields(requestDTO.getHeaderFields())
                 .paramFields(requestDTO.getParamFields())
                 .requestExample(requestDTO.getRequestExample())
+                .cacheEnabled(Boolean.TRUE.equals(requestDTO.getCacheEnabled()))
+                .cacheTtlSeconds(requestDTO.getCacheTtlSeconds())
+                .retryMaxAttempts(requestDTO.getRetryMaxAttempts())
+                .retryNonIdempotent(Boolean.TRUE.equals(requestDTO.getRetryNonIdempotent()))
+                .hedgeEnabled(Boolean.TRUE.equals(requestDTO.getHedgeEnabled()))
                 .build();
 
         Request savedRequest = requestRepository.save(request);
@@ -103,8 +144,15 @@ public class RequestService {
         request.setHeaderFields(requestDTO.getHeaderFields());
         request.setParamFields(requestDTO.getParamFields());
         request.setRequestExample(requestDTO.getRequestExample());
+        request.setCacheEnabled(Boolean.TRUE.equals(requestDTO.getCacheEnabled()));
+        request.setCacheTtlSeconds(requestDTO.getCacheTtlSeconds());
+        request.setRetryMaxAttempts(requestDTO.getRetryMaxAttempts());
+        request.setRetryNonIdempotent(Boolean.TRUE.equals(requestDTO.getRetryNonIdempotent()));
+        request.setHedgeEnabled(Boolean.TRUE.equals(requestDTO.getHedgeEnabled()));
 
         Request updatedRequest = requestRepository.save(request);
+        requestExecutionPlanCache.invalidateRequest(id);
+        requestResponseCache.invalidateRequest(id);
         log.info("Request updated successfully with ID: {}", updatedRequest.getId());
 
         return mapToResponseDTO(updatedRequest);
@@ -119,356 +167,903 @@ public class RequestService {
         }
 
         requestRepository.deleteById(id);
+        requestExecutionPlanCache.invalidateRequest(id);
+        requestResponseCache.invalidateRequest(id);
         log.info("Request deleted successfully with ID: {}", id);
     }
 
     public RequestTestResponseDTO testRequest(Long id, boolean registerTest) {
         log.info("Testing request with ID: {}, registerTest: {}", id, registerTest);
 
-        Request request = requestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Request não encontrada"));
-
-        Path path = request.getPath();
-        Integration integration = path.getIntegration();
-        ApiAuthentication authentication = integration.getAuthentication();
+        RequestExecutionPlan plan = requestExecutionPlanCache.getPlan(id);
+        return execute(plan, null, Map.of(), registerTest);
+    }
 
-        // Monta URL completa: baseUrl + path
-        String fullUrl = integration.getBaseUrl() + path.getPath();
+    /**
+     * Executa um plano já compilado com os dados de autenticação já resolvidos (sem nova consulta de autenticação)
+     * e as variáveis da chamada, que sobrescrevem os dados de autenticação
+     */
+    public RequestTestResponseDTO executePlan(
+            RequestExecutionPlan plan,
+            Map<String, Object> authenticationData,
+            Map<String, Object> variables) {
+        return execute(plan,
+                authenticationData != null ? authenticationData : Map.of(),
+                variables != null ? variables : Map.of(),
+                false);
+    }
 
+    private RequestTestResponseDTO execute(
+            RequestExecutionPlan plan,
+            Map<String, Object> authenticationData,
+            Map<String, Object> variables,
+            boolean registerTest) {
         long startTime = System.currentTimeMillis();
+        // O prazo total conta desde antes da autenticação
+        long deadline = plan.getRetryPolicy().deadlineFrom(System.nanoTime());
+        List<Long> attempts = new ArrayList<>();
 
         try {
-            // Executa o teste de autenticação primeiro, se houver
-            final Map<String, Object> authResponseData = new HashMap<>();
-            if (authentication != null) {
-                log.info("Executing authentication test for authentication ID: {}", authentication.getId());
-                ApiAuthenticationTestResponseDTO authTestResponse = apiAuthenticationService.testApiAuthentication(authentication.getId(), false);
-                
-                if (authTestResponse.isSuccess()) {
-                    // Parse do response body para extrair os campos
-                    Map<String, Object> parsedData = parseAuthenticationResponse(authTestResponse.getResponseBody());
-                    authResponseData.putAll(parsedData);
-                    log.info("Authentication test successful. Extracted {} fields", authResponseData.size());
-                } else {
-                    log.warn("Authentication test failed with status: {}", authTestResponse.getStatusCode());
-                }
-            }
+            // Obtém os dados de autenticação (cache ou nova autenticação), se não vierem resolvidos
+            Map<String, Object> authResponseData = authenticationData != null
+                    ? authenticationData
+                    : resolveAuthenticationData(plan);
 
-            // Monta a URL com parâmetros de query se houver
-            String urlWithParams = buildUrlWithParams(fullUrl, request.getRequestExample());
+            PreparedRequest prepared = prepare(plan, authResponseData, variables);
 
-            java.net.http.HttpRequest.Builder requestBuilder = java.net.http.HttpRequest.newBuilder()
-                    .uri(URI.create(urlWithParams))
-                    .timeout(Duration.ofSeconds(30));
+            if (plan.getReplayMode() == ReplayMode.REPLAY) {
+                return complete(plan, replay(plan, prepared, startTime), attempts);
+            }
 
-            // Adiciona headers da integração (com substituição de variáveis)
-            if (integration.getHeaders() != null) {
-                for (Map.Entry<String, String> header : integration.getHeaders().entrySet()) {
-                    String headerValue = replaceVariables(header.getValue(), authResponseData);
-                    requestBuilder.header(header.getKey(), headerValue);
-                }
+            if (!usesResponseCache(plan, registerTest)) {
+                HttpResponse<String> response = sendWithRetry(plan, prepared.getHttpRequest(), bodyHandler(plan), attempts, deadline);
+                return complete(plan, toTestResponse(plan, prepared, response, registerTest, startTime), attempts);
             }
 
-            // Adiciona headers da request (com substituição de variáveis)
-            if (request.getHeaderFields() != null) {
-                request.getHeaderFields().forEach((key, value) -> {
-                    if (request.getRequestExample() != null && request.getRequestExample().containsKey(key)) {
-                        String headerValue = replaceVariables(String.valueOf(request.getRequestExample().get(key)), authResponseData);
-                        requestBuilder.header(key, headerValue);
-                    }
-                });
+            String cacheKey = responseCacheKey(plan, prepared);
+            RequestResponseCache.CachedResponse cached = requestResponseCache.lookup(cacheKey);
+            if (cached != null && cached.isFresh(Instant.now())) {
+                return complete(plan, buildTestResponse(plan, prepared, cached.getStatusCode(), cached.getHeaders(),
+                        cached.getBody(), false, startTime, CacheStatus.HIT), attempts);
             }
 
-            // Configura método HTTP e body
-            String body = null;
-            if (request.getHttpMethod().toString().equals("GET") || request.getHttpMethod().toString().equals("DELETE")) {
-                requestBuilder.method(request.getHttpMethod().toString(), BodyPublishers.noBody());
-            } else {
-                // Monta o body baseado no requestExample
-                if (request.getContentType() != null && request.getRequestExample() != null) {
-                    if (request.getContentType().getValue().contains("application/x-www-form-urlencoded")) {
-                        body = buildFormUrlencodedBody(request.getRequestExample());
-                        requestBuilder.header("Content-Type", request.getContentType().getValue());
-                    } else {
-                        body = objectMapper.writeValueAsString(request.getRequestExample());
-                        requestBuilder.header("Content-Type", request.getContentType().getValue());
+            HttpResponse<String> response = sendWithRetry(plan, conditionalRequest(prepared, cached), bodyHandler(plan), attempts, deadline);
+            return complete(plan, toCachedTestResponse(plan, prepared, cacheKey, cached, response, startTime), attempts);
+
+        } catch (Exception e) {
+            return complete(plan, toErrorResponse(plan, e, startTime), attempts);
+        }
+    }
+
+    /**
+     * Versão não bloqueante do teste: autenticação e chamada usam HttpClient.sendAsync,
+     * sem ocupar a thread do servlet durante a latência do destino
+     */
+    public CompletableFuture<RequestTestResponseDTO> testRequestAsync(Long id, boolean registerTest) {
+        log.info("Testing request (async) with ID: {}, registerTest: {}", id, registerTest);
+
+        RequestExecutionPlan plan = requestExecutionPlanCache.getPlan(id);
+        // O prazo total conta desde antes da autenticação
+        long deadline = plan.getRetryPolicy().deadlineFrom(System.nanoTime());
+        CompletableFuture<Map<String, Object>> authentication = plan.requiresAuthentication()
+                ? apiAuthenticationService.getAuthenticationDataAsync(plan.getAuthenticationId())
+                : CompletableFuture.completedFuture(new HashMap<>());
+
+        return executeAsync(plan, authentication, Map.of(), registerTest, deadline);
+    }
+
+    /**
+     * Versão não bloqueante de executePlan. Cancelar o future retornado aborta a chamada em andamento
+     * no HttpClient e impede novas tentativas.
+     */
+    public CompletableFuture<RequestTestResponseDTO> executePlanAsync(
+            RequestExecutionPlan plan,
+            Map<String, Object> authenticationData,
+            Map<String, Object> variables) {
+        return executeAsync(plan,
+                CompletableFuture.completedFuture(authenticationData != null ? authenticationData : Map.of()),
+                variables != null ? variables : Map.of(),
+                false,
+                plan.getRetryPolicy().deadlineFrom(System.nanoTime()));
+    }
+
+    private CompletableFuture<RequestTestResponseDTO> executeAsync(
+            RequestExecutionPlan plan,
+            CompletableFuture<Map<String, Object>> authentication,
+            Map<String, Object> variables,
+            boolean registerTest,
+            long deadline) {
+        long startTime = System.currentTimeMillis();
+        // O prazo total também limita a autenticação e a primeira tentativa
+        long remainingMs = Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 0);
+        List<Long> attempts = Collections.synchronizedList(new ArrayList<>());
+        AsyncCall call = new AsyncCall();
+
+        CompletableFuture<RequestTestResponseDTO> result = authentication
+                .thenCompose(authResponseData -> {
+                    PreparedRequest prepared = prepare(plan, authResponseData, variables);
+                    if (plan.getReplayMode() == ReplayMode.REPLAY) {
+                        return CompletableFuture.completedFuture(replay(plan, prepared, startTime));
                     }
-                    requestBuilder.method(request.getHttpMethod().toString(), BodyPublishers.ofString(body));
-                } else {
-                    requestBuilder.method(request.getHttpMethod().toString(), BodyPublishers.noBody());
-                }
+                    if (!usesResponseCache(plan, registerTest)) {
+                        return sendAsyncWithRetry(plan, prepared.getHttpRequest(), bodyHandler(plan), attempts, deadline, call)
+                                .thenApply(response -> toTestResponse(plan, prepared, response, registerTest, startTime));
+                    }
+
+                    String cacheKey = responseCacheKey(plan, prepared);
+                    RequestResponseCache.CachedResponse cached = requestResponseCache.lookup(cacheKey);
+                    if (cached != null && cached.isFresh(Instant.now())) {
+                        return CompletableFuture.completedFuture(buildTestResponse(plan, prepared, cached.getStatusCode(),
+                                cached.getHeaders(), cached.getBody(), false, startTime, CacheStatus.HIT));
+                    }
+                    return sendAsyncWithRetry(plan, conditionalRequest(prepared, cached), bodyHandler(plan), attempts, deadline, call)
+                            .thenApply(response -> toCachedTestResponse(plan, prepared, cacheKey, cached, response, startTime));
+                })
+                .orTimeout(remainingMs, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof TimeoutException) {
+                        call.cancel();
+                        cause = new RuntimeException("Prazo total da chamada excedido ("
+                                + plan.getRetryPolicy().getMaxTotalTime().toMillis() + " ms)", cause);
+                    } else if (cause instanceof CancellationException) {
+                        cause = new RuntimeException("Chamada cancelada", cause);
+                    }
+                    return toErrorResponse(plan, cause, startTime);
+                })
+                .thenApply(response -> complete(plan, response, attempts));
+
+        // Cancelar o retorno aborta a tentativa em andamento
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel();
             }
+        });
+        return result;
+    }
+
+    /**
+     * Tempo máximo de espera pelo resultado de testRequestAsync: prazo total da chamada mais uma folga
+     */
+    public long getResultTimeoutMs() {
+        return retryMaxTotalMs + 5000;
+    }
 
-            java.net.http.HttpRequest httpRequest = requestBuilder.build();
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Executa a request repassando o body do destino direto para o cliente (sem bufferizar em memória).
+     * O body é limitado a request.stream.max-bytes; acima disso a conexão com o destino é abortada.
+     * Com registerTest=true os campos são extraídos por parser streaming e mesclados no schema acumulado.
+     */
+    public RequestStreamResponseDTO streamRequest(Long id, boolean registerTest) {
+        log.info("Streaming request with ID: {}, registerTest: {}", id, registerTest);
+
+        RequestExecutionPlan plan = requestExecutionPlanCache.getPlan(id);
+        // Streaming não passa pelo disco: em REPLAY a chamada real não pode sair, em RECORD ela não é gravada
+        if (plan.getReplayMode() == ReplayMode.REPLAY) {
+            throw new RuntimeException("Streaming indisponível para integração em modo REPLAY");
+        }
+        PreparedRequest prepared = prepare(plan, resolveAuthenticationData(plan), Map.of());
+        long startTime = System.currentTimeMillis();
+
+        // A permissão do bulkhead fica com a chamada até o body terminar de ser repassado ao cliente
+        IntegrationCircuitBreaker breaker = integrationCircuitBreakerRegistry.acquire(plan.getIntegrationId());
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient(plan).send(prepared.getHttpRequest(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            finishStream(plan, prepared, breaker, null, e, true, start, 0);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Requisição interrompida: " + e.getMessage(), e);
+            }
+            if (e instanceof IOException) {
+                throw new RuntimeException("Falha ao chamar o destino: " + e.getMessage(), e);
+            }
+            throw (RuntimeException) e;
+        }
+        boolean serverError = response.statusCode() >= 500;
 
-            long endTime = System.currentTimeMillis();
+        if (response.statusCode() == 401 && plan.getAuthenticationId() != null) {
+            apiAuthenticationService.invalidateAuthenticationData(plan.getAuthenticationId());
+        }
 
-            Map<String, String> responseHeaders = new HashMap<>();
-            response.headers().map().forEach((key, values) ->
-                    responseHeaders.put(key, String.join(", ", values))
-            );
+        long declaredLength = response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+        if (declaredLength > streamMaxBytes) {
+            closeQuietly(response.body());
+            finishStream(plan, prepared, breaker, response, null, serverError, start, 0);
+            throw new RuntimeException("Response do destino (" + declaredLength
+                    + " bytes) excede o limite de " + streamMaxBytes + " bytes");
+        }
 
-            // Extrai campos do response JSON
-            Map<String, String> extractedFields = extractFieldsWithTypes(response.body());
+        Map<String, String> headers = new HashMap<>();
+        JsonSchemaInference inference;
+        try {
+            for (String header : STREAMED_HEADERS) {
+                response.headers().firstValue(header).ifPresent(value -> headers.put(header, value));
+            }
+            inference = registerTest ? jsonSchemaInferrer.newInference() : null;
+        } catch (RuntimeException e) {
+            closeQuietly(response.body());
+            finishStream(plan, prepared, breaker, response, e, serverError, start, 0);
+            throw e;
+        }
 
-            // Se registerTest=true, salva os campos extraídos e o exemplo
-            if (registerTest) {
-                boolean updated = false;
-                
-                // Atualiza responseFields se houver
-                if (!extractedFields.isEmpty()) {
-                    request.setResponseFields(extractedFields);
-                    
-                    // Salva o response completo como exemplo
+        return RequestStreamResponseDTO.builder()
+                .statusCode(response.statusCode())
+                .headers(headers)
+                .body(output -> {
+                    StreamProgress progress = new StreamProgress();
+                    IOException error = null;
                     try {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> responseExample = objectMapper.readValue(response.body(), Map.class);
-                        request.setResponseExample(responseExample);
-                    } catch (Exception e) {
-                        log.warn("Failed to parse response as JSON for example: {}", e.getMessage());
+                        copyWithLimit(response.body(), output, inference, progress);
+                        log.info("Streamed {} bytes for request ID: {}", progress.copied, id);
+                    } catch (IOException e) {
+                        error = e;
+                        throw e;
+                    } finally {
+                        // Só erro de leitura do destino conta como falha; cliente desconectado ou limite excedido não
+                        finishStream(plan, prepared, breaker, response, progress.upstreamFailed ? error : null,
+                                serverError || progress.upstreamFailed, start, progress.copied);
+                        recordStreamExecution(plan, prepared, response.statusCode(), progress.copied,
+                                error != null ? error.getMessage() : null, startTime);
                     }
-                    updated = true;
-                }
-                
-                // Atualiza bodyFields se for POST/PUT/PATCH e tiver requestExample
-                if (request.getRequestExample() != null && 
-                    (request.getHttpMethod().toString().equals("POST") || 
-                     request.getHttpMethod().toString().equals("PUT") || 
-                     request.getHttpMethod().toString().equals("PATCH"))) {
-                    
-                    try {
-                        // Serializa o requestExample para JSON e extrai os campos
-                        String requestBodyJson = objectMapper.writeValueAsString(request.getRequestExample());
-                        Map<String, String> bodyFieldsExtracted = extractFieldsWithTypes(requestBodyJson);
-                        
-                        if (!bodyFieldsExtracted.isEmpty()) {
-                            request.setBodyFields(bodyFieldsExtracted);
-                            log.info("Body fields extracted for request ID: {}", id);
-                            updated = true;
-                        }
-                    } catch (Exception e) {
-                        log.warn("Failed to extract body fields from requestExample: {}", e.getMessage());
+                    if (inference != null) {
+                        inference.finish();
+                        requestSchemaAccumulator.observe(id, inference, null);
                     }
+                })
+                .build();
+    }
+
+    /**
+     * Copia o body do destino para o cliente; progress acompanha o total copiado mesmo em caso de erro
+     */
+    private void copyWithLimit(InputStream upstream, OutputStream output, JsonSchemaInference inference, StreamProgress progress)
+            throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        try (upstream) {
+            int read;
+            while ((read = readUpstream(upstream, buffer, progress)) != -1) {
+                if (progress.copied + read > streamMaxBytes) {
+                    int allowed = (int) (streamMaxBytes - progress.copied);
+                    output.write(buffer, 0, allowed);
+                    output.flush();
+                    progress.copied += allowed;
+                    // Fechar o stream do destino aborta a conexão em vez de consumir o restante
+                    throw new IOException("Response excede o limite de " + streamMaxBytes + " bytes");
                 }
-                
-                if (updated) {
-                    requestRepository.save(request);
-                    log.info("Fields registered for request ID: {}", id);
+                output.write(buffer, 0, read);
+                if (inference != null) {
+                    inference.feed(buffer, 0, read);
                 }
+                progress.copied += read;
             }
+        }
+        output.flush();
+    }
 
-            return RequestTestResponseDTO.builder()
-                    .success(response.statusCode() >= 200 && response.statusCode() < 300)
-                    .statusCode(response.statusCode())
-                    .statusMessage(getStatusMessage(response.statusCode()))
-                    .fullUrl(urlWithParams)
-                    .httpMethod(request.getHttpMethod().toString())
-                    .requestHeaders(extractRequestHeaders(httpRequest))
-                    .requestParams(extractParamsFromExample(request.getRequestExample()))
-                    .requestBody(parseJsonToObject(body))
-                    .responseHeaders(responseHeaders)
-                    .responseBody(parseJsonToObject(response.body()))
-                    .extractedFields(extractedFields)
-                    .responseTimeMs(endTime - startTime)
-                    .build();
+    private int readUpstream(InputStream upstream, byte[] buffer, StreamProgress progress) throws IOException {
+        try {
+            return upstream.read(buffer);
+        } catch (IOException e) {
+            progress.upstreamFailed = true;
+            throw e;
+        }
+    }
 
-        } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            log.error("Error testing request: {}", e.getMessage());
+    /**
+     * Encerra a chamada em stream: libera o bulkhead e registra a duração até o fim do body
+     */
+    private void finishStream(
+            RequestExecutionPlan plan,
+            PreparedRequest prepared,
+            IntegrationCircuitBreaker breaker,
+            HttpResponse<?> response,
+            Throwable error,
+            boolean failure,
+            long startNanos,
+            long bytesIn) {
+
+        breaker.onResult(failure, Duration.ofNanos(System.nanoTime() - startNanos));
+        recordMetrics(plan, prepared.getHttpRequest(), response, error, startNanos, bytesIn);
+    }
 
-            return RequestTestResponseDTO.builder()
-                    .success(false)
-                    .statusCode(0)
-                    .statusMessage("Error")
-                    .fullUrl(fullUrl)
-                    .httpMethod(request.getHttpMethod().toString())
-                    .errorMessage(e.getMessage())
-                    .responseTimeMs(endTime - startTime)
-                    .build();
+    private void recordStreamExecution(
+            RequestExecutionPlan plan,
+            PreparedRequest prepared,
+            int statusCode,
+            long responseSize,
+            String error,
+            long startTime) {
+
+        requestExecutionHistoryWriter.record(RequestExecutionRecord.builder()
+                .requestId(plan.getRequestId())
+                .integrationId(plan.getIntegrationId())
+                .httpMethod(plan.getHttpMethod().toString())
+                .statusCode(statusCode)
+                .success(error == null && statusCode >= 200 && statusCode < 300)
+                .latencyMs(System.currentTimeMillis() - startTime)
+                .attempts(1)
+                .requestSize(OutboundHttpMetrics.utf8Length(prepared.getBody()))
+                .responseSize(responseSize)
+                .errorMessage(error)
+                .executedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.debug("Error closing upstream stream: {}", e.getMessage());
         }
     }
 
-    private String buildUrlWithParams(String baseUrl, Map<String, Object> requestExample) {
-        if (requestExample == null || !requestExample.containsKey("params")) {
-            return baseUrl;
+    private HttpClient httpClient(RequestExecutionPlan plan) {
+        return integrationHttpClientRegistry.getClient(plan.getIntegrationId(), plan.getHttpSettings());
+    }
+
+    /**
+     * Body em String limitado ao max-response-bytes da integração; acima disso a conexão é abortada
+     */
+    private HttpResponse.BodyHandler<String> bodyHandler(RequestExecutionPlan plan) {
+        return integrationHttpClientRegistry.bodyHandler(plan.getHttpSettings());
+    }
+
+    /**
+     * Envia com a política de retry do plano: erros de I/O e status configurados geram nova tentativa
+     * (backoff exponencial com jitter) enquanto houver tentativas, orçamento global de retry e tempo
+     * dentro do prazo total da política. A latência de cada tentativa é adicionada em attempts.
+     */
+    private <T> HttpResponse<T> sendWithRetry(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler,
+            List<Long> attempts,
+            long deadline) throws IOException, InterruptedException {
+
+        RequestRetryPolicy policy = plan.getRetryPolicy();
+        requestRetryBudget.recordRequest();
+
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            HttpResponse<T> response;
+            try {
+                response = sendAttempt(plan, httpRequest, bodyHandler);
+            } catch (IOException e) {
+                attempts.add(elapsedMillis(start));
+                // Response grande demais não melhora numa nova tentativa
+                if (ResponseTooLargeException.find(e) != null) {
+                    throw e;
+                }
+                Duration delay = policy.backoff(attempt, null);
+                if (!canRetry(plan, attempt, deadline, delay)) {
+                    throw e;
+                }
+                log.warn("Attempt {} for request ID {} failed: {}", attempt, plan.getRequestId(), e.getMessage());
+                Thread.sleep(delay.toMillis());
+                continue;
+            }
+            attempts.add(elapsedMillis(start));
+
+            if (!policy.isRetryableStatus(response.statusCode())) {
+                return response;
+            }
+            Duration delay = policy.backoff(attempt, retryAfter(response));
+            if (!canRetry(plan, attempt, deadline, delay)) {
+                return response;
+            }
+            log.warn("Attempt {} for request ID {} returned status {}", attempt, plan.getRequestId(), response.statusCode());
+            Thread.sleep(delay.toMillis());
         }
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsyncWithRetry(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler,
+            List<Long> attempts,
+            long deadline,
+            AsyncCall call) {
+
+        requestRetryBudget.recordRequest();
+        return attemptAsync(plan, httpRequest, bodyHandler, attempts, 1, deadline, call);
+    }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> params = (Map<String, Object>) requestExample.get("params");
-        if (params == null || params.isEmpty()) {
-            return baseUrl;
+    private <T> CompletableFuture<HttpResponse<T>> attemptAsync(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler,
+            List<Long> attempts,
+            int attempt,
+            long deadline,
+            AsyncCall call) {
+
+        if (call.isCancelled()) {
+            return CompletableFuture.failedFuture(new CancellationException("Chamada cancelada"));
         }
+        RequestRetryPolicy policy = plan.getRetryPolicy();
+        long start = System.nanoTime();
+
+        CompletableFuture<HttpResponse<T>> sending = sendAttemptAsync(plan, httpRequest, bodyHandler);
+        call.track(sending);
+        return sending
+                .handle((response, error) -> {
+                    attempts.add(elapsedMillis(start));
+                    Throwable cause = error != null ? unwrap(error) : null;
+
+                    boolean retryable = cause != null
+                            ? cause instanceof IOException && ResponseTooLargeException.find(cause) == null
+                            : policy.isRetryableStatus(response.statusCode());
+                    Duration delay = retryable
+                            ? policy.backoff(attempt, cause == null ? retryAfter(response) : null)
+                            : Duration.ZERO;
+                    if (!retryable || call.isCancelled() || !canRetry(plan, attempt, deadline, delay)) {
+                        return cause != null
+                                ? CompletableFuture.<HttpResponse<T>>failedFuture(cause)
+                                : CompletableFuture.completedFuture(response);
+                    }
 
-        StringBuilder url = new StringBuilder(baseUrl);
-        url.append("?");
-        params.forEach((key, value) -> url.append(key).append("=").append(value).append("&"));
-        return url.substring(0, url.length() - 1);
+                    log.warn("Attempt {} for request ID {} failed: {}", attempt, plan.getRequestId(),
+                            cause != null ? cause.getMessage() : "status " + response.statusCode());
+                    Executor delayed = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(ignored -> attemptAsync(plan, httpRequest, bodyHandler, attempts, attempt + 1, deadline, call));
+                })
+                .thenCompose(Function.identity());
     }
 
-    private String buildFormUrlencodedBody(Map<String, Object> requestExample) {
-        if (requestExample == null) {
-            return "";
+    /**
+     * Nova tentativa só se ainda houver tentativas, se a espera mais uma tentativa inteira
+     * (connect timeout + read timeout) couber no prazo total e se o orçamento global de retry permitir
+     */
+    private boolean canRetry(RequestExecutionPlan plan, int attempt, long deadline, Duration delay) {
+        RequestRetryPolicy policy = plan.getRetryPolicy();
+        if (!policy.isEnabled() || attempt >= policy.getMaxAttempts()) {
+            return false;
+        }
+        long nextAttemptEnd = System.nanoTime() + delay.toNanos()
+                + plan.getHttpSettings().getConnectTimeout().toNanos()
+                + plan.getHttpSettings().getReadTimeout().toNanos();
+        if (nextAttemptEnd - deadline > 0) {
+            log.warn("Not retrying request ID {}: attempt {} would exceed the {} ms retry deadline",
+                    plan.getRequestId(), attempt + 1, policy.getMaxTotalTime().toMillis());
+            return false;
         }
-        return requestExample.entrySet().stream()
-                .filter(entry -> !entry.getKey().equals("params"))
-                .map(entry -> entry.getKey() + "=" + entry.getValue())
-                .collect(Collectors.joining("&"));
+        return requestRetryBudget.tryAcquire();
+    }
+
+    private Duration retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .filter(value -> value.trim().matches("\\d+"))
+                .map(value -> Duration.ofSeconds(Long.parseLong(value.trim())))
+                .orElse(null);
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
-    private Map<String, Object> parseAuthenticationResponse(String responseBody) {
-        Map<String, Object> result = new HashMap<>();
-        if (responseBody == null || responseBody.trim().isEmpty()) {
-            return result;
+    /**
+     * Preenche as tentativas e registra a execução no histórico (gravação assíncrona)
+     */
+    private RequestTestResponseDTO complete(RequestExecutionPlan plan, RequestTestResponseDTO response, List<Long> attempts) {
+        synchronized (attempts) {
+            response.setAttempts(attempts.size());
+            response.setAttemptLatenciesMs(List.copyOf(attempts));
         }
+        requestExecutionHistoryWriter.record(RequestExecutionRecord.builder()
+                .requestId(plan.getRequestId())
+                .integrationId(plan.getIntegrationId())
+                .httpMethod(plan.getHttpMethod().toString())
+                .statusCode(response.getStatusCode())
+                .success(response.isSuccess())
+                .latencyMs(response.getResponseTimeMs())
+                .attempts(response.getAttempts())
+                .requestSize(response.getRequestSizeBytes())
+                .responseSize(response.getResponseSizeBytes())
+                .cacheStatus(response.getCacheStatus() != null ? response.getCacheStatus().name() : null)
+                .errorMessage(response.getErrorMessage())
+                .executedAt(LocalDateTime.now())
+                .build());
+        return response;
+    }
 
+    /**
+     * Envia pela integração passando pelo circuit breaker / bulkhead.
+     * Erros de I/O e respostas 5xx contam como falha; a duração alimenta a taxa de chamadas lentas.
+     */
+    private <T> HttpResponse<T> send(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+
+        IntegrationCircuitBreaker breaker = plan.isLoadTest()
+                ? integrationCircuitBreakerRegistry.acquireForLoadTest(plan.getIntegrationId())
+                : integrationCircuitBreakerRegistry.acquire(plan.getIntegrationId());
+        long start = System.nanoTime();
         try {
-            // Parse JSON response
-            @SuppressWarnings("unchecked")
-            Map<String, Object> jsonMap = objectMapper.readValue(responseBody, Map.class);
-            flattenMap("", jsonMap, result);
-        } catch (Exception e) {
-            log.warn("Failed to parse authentication response: {}", e.getMessage());
+            HttpResponse<T> response = httpClient(plan).send(httpRequest, bodyHandler);
+            breaker.onResult(response.statusCode() >= 500, Duration.ofNanos(System.nanoTime() - start));
+            recordMetrics(plan, httpRequest, response, null, start);
+            return response;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            breaker.onResult(true, Duration.ofNanos(System.nanoTime() - start));
+            recordMetrics(plan, httpRequest, null, e, start);
+            throw e;
         }
-
-        return result;
     }
 
-    private void flattenMap(String prefix, Map<String, Object> map, Map<String, Object> result) {
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
-            Object value = entry.getValue();
-
-            if (value instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> nestedMap = (Map<String, Object>) value;
-                flattenMap(key, nestedMap, result);
-            } else if (value instanceof List) {
-                result.put(key, value);
-                // Também adiciona elementos individuais se for lista de objetos simples
-                List<?> list = (List<?>) value;
-                for (int i = 0; i < list.size(); i++) {
-                    result.put(key + "[" + i + "]", list.get(i));
-                }
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler) {
+
+        // Caminho assíncrono não espera pelo bulkhead: recusa na hora se estiver cheio
+        IntegrationCircuitBreaker breaker = plan.isLoadTest()
+                ? integrationCircuitBreakerRegistry.acquireForLoadTest(plan.getIntegrationId())
+                : integrationCircuitBreakerRegistry.tryAcquire(plan.getIntegrationId());
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> future;
+        try {
+            future = httpClient(plan).sendAsync(httpRequest, bodyHandler);
+        } catch (RuntimeException e) {
+            breaker.onResult(true, Duration.ofNanos(System.nanoTime() - start));
+            recordMetrics(plan, httpRequest, null, e, start);
+            throw e;
+        }
+        CompletableFuture<HttpResponse<T>> guarded = future.whenComplete((response, error) -> {
+            if (error instanceof CancellationException) {
+                breaker.onCancelled();
             } else {
-                result.put(key, value);
+                breaker.onResult(error != null || response.statusCode() >= 500, Duration.ofNanos(System.nanoTime() - start));
             }
-        }
+            recordMetrics(plan, httpRequest, response, error, start);
+        });
+        // Cancelar o retorno (ex: hedging) aborta a chamada no HttpClient
+        guarded.whenComplete((response, error) -> {
+            if (guarded.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return guarded;
     }
 
-    private String replaceVariables(String text, Map<String, Object> variables) {
-        if (text == null || !text.contains("${")) {
-            return text;
+    private void recordMetrics(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse<?> response,
+            Throwable error,
+            long startNanos) {
+
+        recordMetrics(plan, httpRequest, response, error, startNanos, responseSize(response));
+    }
+
+    private void recordMetrics(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse<?> response,
+            Throwable error,
+            long startNanos,
+            long bytesIn) {
+
+        outboundHttpMetrics.record(
+                OutboundHttpMetrics.CLIENT_REQUEST,
+                plan.getIntegrationId(),
+                plan.getPathId(),
+                httpRequest.method(),
+                response != null ? response.statusCode() : 0,
+                error,
+                System.nanoTime() - startNanos,
+                httpRequest.bodyPublisher().map(java.net.http.HttpRequest.BodyPublisher::contentLength).orElse(0L),
+                bytesIn);
+    }
+
+    private long responseSize(HttpResponse<?> response) {
+        if (response == null) {
+            return 0;
+        }
+        if (response.body() instanceof String body) {
+            return OutboundHttpMetrics.utf8Length(body);
         }
+        // Body não textual: usa o tamanho declarado pelo destino
+        return response.headers().firstValueAsLong("Content-Length").orElse(0L);
+    }
 
-        String result = text;
-        // Regex para encontrar ${variavel}
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("\\$\\{([^}]+)\\}");
-        java.util.regex.Matcher matcher = pattern.matcher(text);
+    /**
+     * Uma tentativa: com hedging quando habilitado na Request, senão chamada simples
+     */
+    private <T> HttpResponse<T> sendAttempt(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
 
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            Object value = variables.get(variableName);
-            
-            if (value != null) {
-                result = result.replace("${" + variableName + "}", String.valueOf(value));
-                log.debug("Replaced variable ${} with value: {}", variableName, value);
-            } else {
-                log.warn("Variable ${} not found in authentication response", variableName);
+        if (!plan.isHedgeEnabled()) {
+            return send(plan, httpRequest, bodyHandler);
+        }
+        try {
+            return sendAttemptAsync(plan, httpRequest, bodyHandler).get();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e.getCause());
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw new IOException(cause);
         }
+    }
 
-        return result;
+    private <T> CompletableFuture<HttpResponse<T>> sendAttemptAsync(
+            RequestExecutionPlan plan,
+            java.net.http.HttpRequest httpRequest,
+            HttpResponse.BodyHandler<T> bodyHandler) {
+
+        if (!plan.isHedgeEnabled()) {
+            return sendAsync(plan, httpRequest, bodyHandler);
+        }
+        return requestHedger.hedge(plan.getRequestId(), () -> sendAsync(plan, httpRequest, bodyHandler));
     }
 
-    private Map<String, String> extractRequestHeaders(java.net.http.HttpRequest httpRequest) {
-        Map<String, String> headers = new HashMap<>();
-        httpRequest.headers().map().forEach((key, values) ->
-                headers.put(key, String.join(", ", values))
-        );
-        return headers;
+    private Map<String, Object> resolveAuthenticationData(RequestExecutionPlan plan) {
+        return plan.requiresAuthentication()
+                ? apiAuthenticationService.getAuthenticationData(plan.getAuthenticationId())
+                : new HashMap<>();
     }
 
-    private Map<String, String> extractParamsFromExample(Map<String, Object> requestExample) {
-        if (requestExample == null || !requestExample.containsKey("params")) {
-            return new HashMap<>();
+    private PreparedRequest prepare(
+            RequestExecutionPlan plan,
+            Map<String, Object> authenticationData,
+            Map<String, Object> variables) {
+        Map<String, Object> authResponseData = authenticationData;
+        if (!variables.isEmpty()) {
+            authResponseData = new HashMap<>(authenticationData);
+            authResponseData.putAll(variables);
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> params = (Map<String, Object>) requestExample.get("params");
-        Map<String, String> result = new HashMap<>();
-        if (params != null) {
-            params.forEach((key, value) -> result.put(key, String.valueOf(value)));
+        // Monta a URL com parâmetros de query (com substituição de variáveis)
+        String url = plan.getUrl().render(authResponseData, VariableTemplate.URL_ENCODED);
+
+        java.net.http.HttpRequest.Builder requestBuilder = java.net.http.HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(plan.getHttpSettings().getReadTimeout());
+
+        // Adiciona headers da integração e da request (com substituição de variáveis)
+        for (RequestExecutionPlan.Header header : plan.getHeaders()) {
+            requestBuilder.header(header.getName(), header.getValue().render(authResponseData));
         }
-        return result;
+
+        // Configura método HTTP e body (com substituição de variáveis)
+        String body = null;
+        if (plan.hasBody()) {
+            body = plan.getBody().render(authResponseData, plan.getBodyEncoder());
+            requestBuilder.header("Content-Type", plan.getContentType());
+            requestBuilder.method(plan.getHttpMethod().toString(), BodyPublishers.ofString(body));
+        } else {
+            requestBuilder.method(plan.getHttpMethod().toString(), BodyPublishers.noBody());
+        }
+
+        // Fingerprint da gravação: templates sem renderizar + variáveis da chamada, nunca dados de autenticação
+        String replayFingerprint = plan.getReplayMode() != ReplayMode.OFF
+                ? RequestReplayStore.fingerprint(plan.getHttpMethod().toString(), plan.getUrl(), plan.getBody(), variables)
+                : null;
+
+        return new PreparedRequest(requestBuilder.build(), url, body, replayFingerprint);
+    }
+
+    /**
+     * Cache de response só é usado em GETs com cache habilitado; registerTest sempre vai ao destino.
+     * Integrações em RECORD/REPLAY também ignoram o cache: toda response real é gravada e a reprodução vem do disco
+     */
+    private boolean usesResponseCache(RequestExecutionPlan plan, boolean registerTest) {
+        return plan.isCacheEnabled() && !registerTest && plan.getReplayMode() == ReplayMode.OFF;
+    }
+
+    /**
+     * Responde com a gravação da integração, sem nenhuma chamada de rede; sem gravação para a chamada, retorna erro
+     */
+    private RequestTestResponseDTO replay(RequestExecutionPlan plan, PreparedRequest prepared, long startTime) {
+        return requestReplayStore.find(plan.getIntegrationId(), prepared.getReplayFingerprint())
+                .map(recorded -> buildTestResponse(plan, prepared, recorded.getStatusCode(), recorded.getHeaders(),
+                        recorded.getBody(), false, startTime, CacheStatus.REPLAY))
+                .orElseGet(() -> toErrorResponse(plan,
+                        new RuntimeException("Nenhuma gravação encontrada para " + plan.getHttpMethod() + " " + prepared.getUrl()),
+                        startTime));
     }
 
-    private Map<String, String> extractFieldsWithTypes(String responseBody) {
-        Map<String, String> fields = new HashMap<>();
-        if (responseBody == null || responseBody.trim().isEmpty()) {
-            return fields;
+    /**
+     * Headers com variáveis entram na chave já renderizados: chamadas com token ou variáveis diferentes
+     * (lote, workflow) não compartilham a entrada
+     */
+    private String responseCacheKey(RequestExecutionPlan plan, PreparedRequest prepared) {
+        List<String> renderedHeaders = new ArrayList<>();
+        for (RequestExecutionPlan.Header header : plan.getHeaders()) {
+            if (!header.getValue().isConstant()) {
+                renderedHeaders.add(header.getName() + "="
+                        + prepared.getHttpRequest().headers().allValues(header.getName()));
+            }
         }
+        return RequestResponseCache.key(plan.getRequestId(), plan.getAuthenticationId(), prepared.getUrl(), renderedHeaders);
+    }
 
-        try {
-            Object parsed = objectMapper.readValue(responseBody, Object.class);
-            extractFieldsRecursively("", parsed, fields);
-        } catch (Exception e) {
-            log.warn("Failed to extract fields from response: {}", e.getMessage());
+    /**
+     * Adiciona If-None-Match / If-Modified-Since quando há uma entrada expirada que pode ser revalidada
+     */
+    private java.net.http.HttpRequest conditionalRequest(PreparedRequest prepared, RequestResponseCache.CachedResponse cached) {
+        if (cached == null || !cached.canRevalidate()) {
+            return prepared.getHttpRequest();
+        }
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(prepared.getHttpRequest(), (name, value) -> true);
+        if (cached.getEtag() != null) {
+            builder.header("If-None-Match", cached.getEtag());
+        }
+        if (cached.getLastModified() != null) {
+            builder.header("If-Modified-Since", cached.getLastModified());
+        }
+        return builder.build();
+    }
+
+    private RequestTestResponseDTO toCachedTestResponse(
+            RequestExecutionPlan plan,
+            PreparedRequest prepared,
+            String cacheKey,
+            RequestResponseCache.CachedResponse cached,
+            HttpResponse<String> response,
+            long startTime) {
+
+        Duration ttl = requestResponseCache.resolveTtl(plan.getCacheTtlSeconds());
+
+        // 304: o conteúdo em cache continua válido
+        if (response.statusCode() == 304 && cached != null) {
+            RequestResponseCache.CachedResponse renewed = requestResponseCache.revalidated(cacheKey, cached, ttl);
+            return buildTestResponse(plan, prepared, renewed.getStatusCode(), renewed.getHeaders(), renewed.getBody(),
+                    false, startTime, CacheStatus.REVALIDATED);
         }
 
-        return fields;
+        Map<String, String> responseHeaders = toHeaderMap(response.headers());
+        boolean noStore = response.headers().allValues("Cache-Control").stream()
+                .anyMatch(value -> value.toLowerCase().contains("no-store"));
+        if (response.statusCode() == 200 && !noStore) {
+            requestResponseCache.store(cacheKey, new RequestResponseCache.CachedResponse(
+                    response.statusCode(),
+                    responseHeaders,
+                    response.body(),
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null),
+                    Instant.now().plus(ttl)));
+        }
+
+        return buildTestResponse(plan, prepared, response.statusCode(), responseHeaders, response.body(),
+                false, startTime, CacheStatus.MISS);
     }
 
-    private void extractFieldsRecursively(String prefix, Object value, Map<String, String> fields) {
-        if (value == null) {
-            fields.put(prefix.isEmpty() ? "null" : prefix, "null");
-            return;
+    private RequestTestResponseDTO toTestResponse(
+            RequestExecutionPlan plan,
+            PreparedRequest prepared,
+            HttpResponse<String> response,
+            boolean registerTest,
+            long startTime) {
+
+        Map<String, String> responseHeaders = toHeaderMap(response.headers());
+        if (plan.getReplayMode() == ReplayMode.RECORD) {
+            requestReplayStore.record(plan.getIntegrationId(), prepared.getReplayFingerprint(),
+                    response.statusCode(), responseHeaders, response.body());
         }
 
-        if (value instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) value;
-            
-            if (prefix.isEmpty()) {
-                // Raiz é um objeto
-                for (Map.Entry<String, Object> entry : map.entrySet()) {
-                    extractFieldsRecursively(entry.getKey(), entry.getValue(), fields);
-                }
-            } else {
-                // Objeto aninhado
-                fields.put(prefix, "object");
-                for (Map.Entry<String, Object> entry : map.entrySet()) {
-                    String newPrefix = prefix + "." + entry.getKey();
-                    extractFieldsRecursively(newPrefix, entry.getValue(), fields);
-                }
-            }
-        } else if (value instanceof List) {
-            List<?> list = (List<?>) value;
-            fields.put(prefix, "array");
-            
-            if (!list.isEmpty()) {
-                Object firstElement = list.get(0);
-                if (firstElement instanceof Map || firstElement instanceof List) {
-                    // Array de objetos ou arrays
-                    extractFieldsRecursively(prefix + "[]", firstElement, fields);
-                } else {
-                    // Array de primitivos
-                    fields.put(prefix + "[]", getSimpleType(firstElement));
-                }
-            }
-        } else {
-            // Tipo primitivo
-            fields.put(prefix, getSimpleType(value));
+        return buildTestResponse(plan, prepared, response.statusCode(), responseHeaders, response.body(),
+                registerTest, startTime, CacheStatus.BYPASS);
+    }
+
+    private RequestTestResponseDTO buildTestResponse(
+            RequestExecutionPlan plan,
+            PreparedRequest prepared,
+            int statusCode,
+            Map<String, String> responseHeaders,
+            String responseBody,
+            boolean registerTest,
+            long startTime,
+            CacheStatus cacheStatus) {
+
+        long endTime = System.currentTimeMillis();
+
+        // Token recusado pelo destino: descarta do cache para a próxima chamada autenticar de novo
+        if (statusCode == 401 && plan.getAuthenticationId() != null) {
+            apiAuthenticationService.invalidateAuthenticationData(plan.getAuthenticationId());
+        }
+
+        // Extrai campos do response JSON
+        JsonSchemaInference inference = jsonSchemaInferrer.analyze(responseBody);
+        Map<String, String> extractedFields = inference.getFields();
+
+        // Se registerTest=true, mescla o response no schema acumulado (gravação agrupada em background)
+        if (registerTest) {
+            requestSchemaAccumulator.observe(plan.getRequestId(), inference, responseBody);
         }
+
+        return RequestTestResponseDTO.builder()
+                .success(statusCode >= 200 && statusCode < 300)
+                .statusCode(statusCode)
+                .statusMessage(getStatusMessage(statusCode))
+                .fullUrl(prepared.getUrl())
+                .httpMethod(plan.getHttpMethod().toString())
+                .requestHeaders(extractRequestHeaders(prepared.getHttpRequest()))
+                .requestParams(plan.getRequestParams())
+                .requestBody(plan.getBody() == null || plan.getBody().isConstant()
+                        ? plan.getRequestBodyView()
+                        : parseJsonToObject(prepared.getBody()))
+                .responseHeaders(responseHeaders)
+                .responseBody(parseJsonToObject(responseBody))
+                .extractedFields(extractedFields)
+                .responseTimeMs(endTime - startTime)
+                .requestSizeBytes(OutboundHttpMetrics.utf8Length(prepared.getBody()))
+                .responseSizeBytes((long) OutboundHttpMetrics.utf8Length(responseBody))
+                .cacheStatus(cacheStatus)
+                .circuitState(integrationCircuitBreakerRegistry.get(plan.getIntegrationId()).getState())
+                .build();
     }
 
-    private String getSimpleType(Object value) {
-        if (value == null) return "null";
-        if (value instanceof String) return "string";
-        if (value instanceof Integer || value instanceof Long) return "integer";
-        if (value instanceof Double || value instanceof Float) return "number";
-        if (value instanceof Boolean) return "boolean";
-        return "unknown";
+    private Map<String, String> toHeaderMap(java.net.http.HttpHeaders httpHeaders) {
+        Map<String, String> headers = new HashMap<>();
+        httpHeaders.map().forEach((key, values) ->
+                headers.put(key, String.join(", ", values))
+        );
+        return headers;
+    }
+
+    private RequestTestResponseDTO toErrorResponse(RequestExecutionPlan plan, Throwable e, long startTime) {
+        long endTime = System.currentTimeMillis();
+        log.error("Error testing request: {}", e.getMessage());
+
+        // Recusada pelo circuit breaker / bulkhead: nada foi enviado ao destino
+        String statusMessage = "Error";
+        CircuitState circuitState = null;
+        if (e instanceof IntegrationUnavailableException unavailable) {
+            statusMessage = unavailable.isBulkheadFull() ? "Bulkhead Full" : "Circuit Open";
+            circuitState = unavailable.getCircuitState();
+        }
+
+        // Conexão abortada pelo limite de tamanho: devolve o status real e o início do body capturado
+        ResponseTooLargeException tooLarge = ResponseTooLargeException.find(e);
+        if (tooLarge != null) {
+            return RequestTestResponseDTO.builder()
+                    .success(false)
+                    .statusCode(tooLarge.getStatusCode())
+                    .statusMessage("Response Too Large")
+                    .fullUrl(plan.getFullUrl())
+                    .httpMethod(plan.getHttpMethod().toString())
+                    .responseHeaders(tooLarge.getHeaders())
+                    .responseBody(tooLarge.getCapturedBody())
+                    .responseTruncated(true)
+                    .errorMessage(tooLarge.getMessage())
+                    .responseTimeMs(endTime - startTime)
+                    .responseSizeBytes(tooLarge.getBytesRead())
+                    .build();
+        }
+
+        return RequestTestResponseDTO.builder()
+                .success(false)
+                .statusCode(0)
+                .statusMessage(statusMessage)
+                .fullUrl(plan.getFullUrl())
+                .httpMethod(plan.getHttpMethod().toString())
+                .errorMessage(e.getMessage())
+                .responseTimeMs(endTime - startTime)
+                .circuitState(circuitState)
+                .build();
+    }
+
+    private Map<String, String> extractRequestHeaders(java.net.http.HttpRequest httpRequest) {
+        Map<String, String> headers = new HashMap<>();
+        httpRequest.headers().map().forEach((key, values) ->
+                headers.put(key, String.join(", ", values))
+        );
+        return headers;
     }
 
     private Object parseJsonToObject(String json) {
@@ -514,8 +1109,58 @@ public class RequestService {
                 .requestExample(request.getRequestExample())
                 .responseFields(request.getResponseFields())
                 .responseExample(request.getResponseExample())
+                .responseSchema(request.getResponseSchema())
+                .cacheEnabled(request.getCacheEnabled())
+                .cacheTtlSeconds(request.getCacheTtlSeconds())
+                .retryMaxAttempts(request.getRetryMaxAttempts())
+                .retryNonIdempotent(request.getRetryNonIdempotent())
+                .hedgeEnabled(request.getHedgeEnabled())
                 .createdAt(request.getCreatedAt())
                 .updatedAt(request.getUpdatedAt())
                 .build();
     }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PreparedRequest {
+        private final java.net.http.HttpRequest httpRequest;
+        private final String url;
+        private final String body;
+        private final String replayFingerprint;
+    }
+
+    /**
+     * Progresso do repasse em stream; upstreamFailed indica erro na leitura do destino
+     */
+    private static class StreamProgress {
+        private long copied;
+        private boolean upstreamFailed;
+    }
+
+    /**
+     * Chamada assíncrona em andamento: guarda a tentativa atual para que o cancelamento chegue ao HttpClient
+     */
+    private static class AsyncCall {
+        private volatile boolean cancelled;
+        private volatile CompletableFuture<?> current;
+
+        void track(CompletableFuture<?> attempt) {
+            current = attempt;
+            if (cancelled) {
+                attempt.cancel(true);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            CompletableFuture<?> attempt = current;
+            if (attempt != null) {
+                attempt.cancel(true);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Template pré-compilado com referências ${variavel}.
+ * O texto é analisado uma única vez em literais e variáveis; a renderização é feita em uma única passada.
+ * Variáveis não encontradas são mantidas no texto como ${variavel}.
+ */
+@Slf4j
+public final class VariableTemplate {
+
+    /** Valor inserido sem transformação (headers) */
+    public static final UnaryOperator<String> RAW = UnaryOperator.identity();
+
+    /** Valor inserido em URL ou form-urlencoded */
+    public static final UnaryOperator<String> URL_ENCODED = value -> URLEncoder.encode(value, StandardCharsets.UTF_8);
+
+    /** Valor inserido dentro de uma string JSON */
+    public static final UnaryOperator<String> JSON_STRING =
+            value -> new String(JsonStringEncoder.getInstance().quoteAsString(value));
+
+    private final String source;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private VariableTemplate(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static VariableTemplate compile(String text) {
+        if (text == null || !text.contains("${")) {
+            return new VariableTemplate(text, new String[]{text == null ? "" : text}, new String[0]);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+
+        while (position < text.length()) {
+            int start = text.indexOf("${", position);
+            if (start < 0) {
+                break;
+            }
+            int end = text.indexOf('}', start + 2);
+            if (end < 0) {
+                break;
+            }
+            if (end == start + 2) {
+                // "${}" não é uma variável
+                literal.append(text, position, start + 2);
+                position = start + 2;
+                continue;
+            }
+            literal.append(text, position, start);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            variables.add(text.substring(start + 2, end));
+            position = end + 1;
+        }
+        literal.append(text, position, text.length());
+        literals.add(literal.toString());
+
+        return new VariableTemplate(text, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    public boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Nomes das variáveis referenciadas, na ordem em que aparecem no texto
+     */
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+
+    public String render(Map<String, Object> values) {
+        return render(values, RAW);
+    }
+
+    public String render(Map<String, Object> values, UnaryOperator<String> encoder) {
+        if (variables.length == 0) {
+            return source;
+        }
+
+        StringBuilder result = new StringBuilder(literalLength + variables.length * 32);
+        for (int i = 0; i < variables.length; i++) {
+            result.append(literals[i]);
+            Object value = values != null ? values.get(variables[i]) : null;
+            if (value != null) {
+                result.append(encoder.apply(String.valueOf(value)));
+            } else {
+                log.warn("Variable ${} not found in authentication response", variables[i]);
+                result.append("${").append(variables[i]).append('}');
+            }
+        }
+        result.append(literals[variables.length]);
+        return result.toString();
+    }
+}
@@ -0,0 +1,327 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.dto.RequestTestResponseDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowNodeResultDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowRunRequestDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowRunResponseDTO;
+import com.tedioinfernal.tedioapp.entity.Workflow;
+import com.tedioinfernal.tedioapp.entity.WorkflowNode;
+import com.tedioinfernal.tedioapp.enums.WorkflowNodeStatus;
+import com.tedioinfernal.tedioapp.repository.WorkflowRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa um Workflow no servidor em uma única chamada.
+ * Cada nó começa assim que suas dependências terminam, então ramos independentes rodam em paralelo.
+ * Campos do response de um nó alimentam as variáveis ${} dos nós seguintes (inputs).
+ */
+@Service
+@Slf4j
+public class WorkflowExecutionService {
+
+    private final WorkflowRepository workflowRepository;
+    private final RequestService requestService;
+    private final RequestExecutionPlanCache requestExecutionPlanCache;
+    private final ApiAuthenticationService apiAuthenticationService;
+    private final long timeoutSeconds;
+    private final ThreadPoolExecutor executor;
+
+    public WorkflowExecutionService(
+            WorkflowRepository workflowRepository,
+            RequestService requestService,
+            RequestExecutionPlanCache requestExecutionPlanCache,
+            ApiAuthenticationService apiAuthenticationService,
+            @Value("${request.workflow.timeout-seconds:120}") long timeoutSeconds,
+            @Value("${request.workflow.pool-size:16}") int poolSize,
+            @Value("${request.workflow.queue-capacity:256}") int queueCapacity) {
+        this.workflowRepository = workflowRepository;
+        this.requestService = requestService;
+        this.requestExecutionPlanCache = requestExecutionPlanCache;
+        this.apiAuthenticationService = apiAuthenticationService;
+        this.timeoutSeconds = timeoutSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "workflow-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Executa o workflow sem bloquear quem chama; o future completa quando todos os nós terminam
+     * ou quando o timeout expira: nós que ainda não começaram não saem, chamadas em andamento
+     * são abortadas no HttpClient (sem novas tentativas) e todos são reportados como TIMEOUT
+     */
+    public CompletableFuture<WorkflowRunResponseDTO> runWorkflow(Long id, WorkflowRunRequestDTO runDTO) {
+        Workflow workflow = workflowRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Workflow não encontrado"));
+
+        List<WorkflowNode> ordered = WorkflowGraph.topologicalOrder(workflow.getNodes());
+        Map<String, Object> initialVariables = runDTO != null && runDTO.getVariables() != null
+                ? runDTO.getVariables()
+                : Map.of();
+
+        log.info("Running workflow ID: {} with {} nodes", id, ordered.size());
+        long startTime = System.currentTimeMillis();
+
+        // Uma autenticação por ApiAuthentication durante a execução, como no lote
+        Map<Long, CompletableFuture<Map<String, Object>>> authentications = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<WorkflowNodeResultDTO>> futures = new LinkedHashMap<>();
+        // Após o timeout nenhum nó pendente chega a fazer a chamada e as chamadas em andamento são canceladas
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Map<String, CompletableFuture<RequestTestResponseDTO>> running = new ConcurrentHashMap<>();
+
+        for (WorkflowNode node : ordered) {
+            List<CompletableFuture<WorkflowNodeResultDTO>> dependencies = WorkflowGraph.dependenciesOf(node).stream()
+                    .map(futures::get)
+                    .toList();
+
+            CompletableFuture<WorkflowNodeResultDTO> future = CompletableFuture
+                    .allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                    .thenApplyAsync(ignored -> {
+                        Map<String, WorkflowNodeResultDTO> upstream = new HashMap<>();
+                        dependencies.forEach(dependency -> {
+                            WorkflowNodeResultDTO result = dependency.join();
+                            upstream.put(result.getKey(), result);
+                        });
+                        return runNode(node, upstream, initialVariables, authentications, cancelled, running, startTime);
+                    }, executor);
+            futures.put(node.getKey(), future);
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .handle((ignored, error) -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Workflow ID {} timed out after {} seconds", id, timeoutSeconds);
+                        cancelled.set(true);
+                        futures.values().forEach(future -> future.cancel(false));
+                        running.values().forEach(call -> call.cancel(true));
+                    } else if (cause != null) {
+                        log.error("Unexpected error running workflow ID {}: {}", id, cause.getMessage());
+                    }
+
+                    List<WorkflowNodeResultDTO> results = new ArrayList<>(ordered.size());
+                    futures.forEach((key, future) -> results.add(toNodeResult(key, future)));
+
+                    boolean success = results.stream()
+                            .allMatch(result -> result.getStatus() == WorkflowNodeStatus.SUCCESS);
+                    long totalTime = System.currentTimeMillis() - startTime;
+                    log.info("Workflow ID {} finished in {} ms, success: {}", id, totalTime, success);
+
+                    return WorkflowRunResponseDTO.builder()
+                            .workflowId(workflow.getId())
+                            .workflowNome(workflow.getNome())
+                            .success(success)
+                            .totalTimeMs(totalTime)
+                            .nodes(results)
+                            .build();
+                });
+    }
+
+    /**
+     * Tempo máximo de espera pelo resultado no controller (timeout do workflow mais uma margem)
+     */
+    public long getResultTimeoutMs() {
+        return TimeUnit.SECONDS.toMillis(timeoutSeconds + 5);
+    }
+
+    private WorkflowNodeResultDTO toNodeResult(String key, CompletableFuture<WorkflowNodeResultDTO> future) {
+        if (!future.isDone() || future.isCancelled()) {
+            return WorkflowNodeResultDTO.builder()
+                    .key(key)
+                    .status(WorkflowNodeStatus.TIMEOUT)
+                    .build();
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return WorkflowNodeResultDTO.builder()
+                    .key(key)
+                    .status(WorkflowNodeStatus.FAILED)
+                    .result(RequestTestResponseDTO.builder()
+                            .success(false)
+                            .statusCode(0)
+                            .statusMessage("Error")
+                            .errorMessage(cause.getMessage())
+                            .build())
+                    .build();
+        }
+    }
+
+    private WorkflowNodeResultDTO runNode(
+            WorkflowNode node,
+            Map<String, WorkflowNodeResultDTO> upstream,
+            Map<String, Object> initialVariables,
+            Map<Long, CompletableFuture<Map<String, Object>>> authentications,
+            AtomicBoolean cancelled,
+            Map<String, CompletableFuture<RequestTestResponseDTO>> running,
+            long workflowStartTime) {
+
+        long nodeStart = System.currentTimeMillis();
+        WorkflowNodeResultDTO.WorkflowNodeResultDTOBuilder result = WorkflowNodeResultDTO.builder()
+                .key(node.getKey())
+                .requestId(node.getRequestId())
+                .startOffsetMs(nodeStart - workflowStartTime);
+
+        // Dependência sem sucesso: o nó não é executado
+        boolean dependenciesSucceeded = upstream.values().stream()
+                .allMatch(dependency -> dependency.getStatus() == WorkflowNodeStatus.SUCCESS);
+        if (!dependenciesSucceeded) {
+            return result.status(WorkflowNodeStatus.SKIPPED).build();
+        }
+
+        if (cancelled.get()) {
+            return result.status(WorkflowNodeStatus.TIMEOUT).build();
+        }
+
+        try {
+            RequestExecutionPlan plan = requestExecutionPlanCache.getPlan(node.getRequestId());
+
+            Map<String, Object> authenticationData = plan.requiresAuthentication()
+                    ? authenticationData(authentications, plan.getAuthenticationId())
+                    : Map.of();
+
+            Map<String, Object> variables = new HashMap<>(initialVariables);
+
+            Map<String, Object> inputs = resolveInputs(node, upstream);
+            variables.putAll(inputs);
+
+            // Timeout pode ter expirado enquanto a autenticação era resolvida
+            if (cancelled.get()) {
+                return result.status(WorkflowNodeStatus.TIMEOUT).inputs(inputs).build();
+            }
+
+            // Publicada antes de conferir o flag: ou o timeout encontra a chamada em running, ou o nó vê o flag
+            CompletableFuture<RequestTestResponseDTO> call = requestService.executePlanAsync(plan, authenticationData, variables);
+            running.put(node.getKey(), call);
+            RequestTestResponseDTO response;
+            try {
+                if (cancelled.get()) {
+                    call.cancel(true);
+                }
+                response = call.join();
+            } catch (CancellationException e) {
+                return result.status(WorkflowNodeStatus.TIMEOUT)
+                        .executionTimeMs(System.currentTimeMillis() - nodeStart)
+                        .inputs(inputs)
+                        .build();
+            } finally {
+                running.remove(node.getKey());
+            }
+            return result
+                    .status(response.isSuccess() ? WorkflowNodeStatus.SUCCESS : WorkflowNodeStatus.FAILED)
+                    .executionTimeMs(System.currentTimeMillis() - nodeStart)
+                    .inputs(inputs)
+                    .result(response)
+                    .build();
+        } catch (Exception e) {
+            log.error("Error running workflow node {}: {}", node.getKey(), e.getMessage());
+            return result
+                    .status(WorkflowNodeStatus.FAILED)
+                    .executionTimeMs(System.currentTimeMillis() - nodeStart)
+                    .result(RequestTestResponseDTO.builder()
+                            .success(false)
+                            .statusCode(0)
+                            .statusMessage("Error")
+                            .errorMessage(e.getMessage())
+                            .build())
+                    .build();
+        }
+    }
+
+    /**
+     * Autenticação compartilhada pelos nós da execução. O future é publicado no mapa antes da chamada,
+     * que roda fora do lock do ConcurrentHashMap; o cache de tokens já coalesce chamadas simultâneas.
+     */
+    private Map<String, Object> authenticationData(
+            Map<Long, CompletableFuture<Map<String, Object>>> authentications, Long authenticationId) {
+        CompletableFuture<Map<String, Object>> authentication = authentications.get(authenticationId);
+        if (authentication == null) {
+            CompletableFuture<Map<String, Object>> loading = new CompletableFuture<>();
+            authentication = authentications.putIfAbsent(authenticationId, loading);
+            if (authentication == null) {
+                authentication = loading;
+                apiAuthenticationService.getAuthenticationDataAsync(authenticationId)
+                        .whenComplete((data, error) -> {
+                            if (error != null) {
+                                loading.completeExceptionally(error);
+                            } else {
+                                loading.complete(data);
+                            }
+                        });
+            }
+        }
+        try {
+            return authentication.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Map<String, Object> resolveInputs(WorkflowNode node, Map<String, WorkflowNodeResultDTO> upstream) {
+        Map<String, Object> inputs = new HashMap<>();
+        if (node.getInputs() == null) {
+            return inputs;
+        }
+        node.getInputs().forEach((variable, source) -> {
+            String[] segments = source.replace("[", ".").replace("]", "").split("\\.");
+            WorkflowNodeResultDTO sourceNode = upstream.get(segments[0]);
+            Object value = sourceNode != null && sourceNode.getResult() != null
+                    ? readPath(sourceNode.getResult().getResponseBody(), segments)
+                    : null;
+            if (value == null) {
+                log.warn("Input {} of workflow node {} not found at {}", variable, node.getKey(), source);
+                return;
+            }
+            inputs.put(variable, value);
+        });
+        return inputs;
+    }
+
+    /**
+     * Navega no response (Map/List) pelos segmentos após a key do nó: "pedido.itens[0].id" ou "pedido.itens.0.id"
+     */
+    private Object readPath(Object body, String[] segments) {
+        Object current = body;
+        for (int i = 1; i < segments.length && current != null; i++) {
+            String segment = segments[i];
+            if (current instanceof Map<?, ?> map) {
+                current = map.get(segment);
+            } else if (current instanceof List<?> list && segment.matches("\\d+")) {
+                int index = Integer.parseInt(segment);
+                current = index < list.size() ? list.get(index) : null;
+            } else {
+                current = null;
+            }
+        }
+        return current;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.entity.WorkflowNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validação e ordenação topológica dos nós de um Workflow
+ */
+final class WorkflowGraph {
+
+    private WorkflowGraph() {
+    }
+
+    /**
+     * Retorna os nós em ordem de execução (dependências antes dos dependentes).
+     * Falha se houver keys duplicadas, dependências inexistentes ou ciclos.
+     */
+    static List<WorkflowNode> topologicalOrder(List<WorkflowNode> nodes) {
+        Map<String, WorkflowNode> byKey = new LinkedHashMap<>();
+        for (WorkflowNode node : nodes) {
+            if (byKey.put(node.getKey(), node) != null) {
+                throw new RuntimeException("Key de nó duplicada no workflow: " + node.getKey());
+            }
+        }
+
+        Map<String, Integer> pendingDependencies = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (WorkflowNode node : nodes) {
+            List<String> dependsOn = dependenciesOf(node);
+            for (String dependency : dependsOn) {
+                if (!byKey.containsKey(dependency)) {
+                    throw new RuntimeException("O nó " + node.getKey() + " depende de um nó inexistente: " + dependency);
+                }
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node.getKey());
+            }
+            pendingDependencies.put(node.getKey(), dependsOn.size());
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        pendingDependencies.forEach((key, pending) -> {
+            if (pending == 0) {
+                ready.add(key);
+            }
+        });
+
+        List<WorkflowNode> ordered = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            String key = ready.poll();
+            ordered.add(byKey.get(key));
+            for (String dependent : dependents.getOrDefault(key, List.of())) {
+                if (pendingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ordered.size() != nodes.size()) {
+            throw new RuntimeException("O workflow contém dependências circulares");
+        }
+        return ordered;
+    }
+
+    static List<String> dependenciesOf(WorkflowNode node) {
+        return node.getDependsOn() != null ? node.getDependsOn() : List.of();
+    }
+}
@@ -0,0 +1,150 @@
+package com.tedioinfernal.tedioapp.service;
+
+import com.tedioinfernal.tedioapp.dto.WorkflowNodeDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowRequestDTO;
+import com.tedioinfernal.tedioapp.dto.WorkflowResponseDTO;
+import com.tedioinfernal.tedioapp.entity.Workflow;
+import com.tedioinfernal.tedioapp.entity.WorkflowNode;
+import com.tedioinfernal.tedioapp.repository.RequestRepository;
+import com.tedioinfernal.tedioapp.repository.WorkflowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowService {
+
+    private final WorkflowRepository workflowRepository;
+    private final RequestRepository requestRepository;
+
+    @Transactional
+    public WorkflowResponseDTO createWorkflow(WorkflowRequestDTO requestDTO) {
+        log.info("Creating workflow with name: {}", requestDTO.getNome());
+
+        if (workflowRepository.existsByNome(requestDTO.getNome())) {
+            throw new RuntimeException("Já existe um workflow com este nome");
+        }
+
+        List<WorkflowNode> nodes = toNodes(requestDTO.getNodes());
+        validateNodes(nodes);
+
+        Workflow workflow = Workflow.builder()
+                .nome(requestDTO.getNome())
+                .description(requestDTO.getDescription())
+                .nodes(nodes)
+                .build();
+
+        Workflow savedWorkflow = workflowRepository.save(workflow);
+        log.info("Workflow created successfully with ID: {}", savedWorkflow.getId());
+
+        return mapToResponseDTO(savedWorkflow);
+    }
+
+    @Transactional(readOnly = true)
+    public WorkflowResponseDTO getWorkflowById(Long id) {
+        log.info("Fetching workflow with ID: {}", id);
+        Workflow workflow = workflowRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Workflow não encontrado"));
+        return mapToResponseDTO(workflow);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WorkflowResponseDTO> getAllWorkflows() {
+        log.info("Fetching all workflows");
+        return workflowRepository.findAll().stream()
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public WorkflowResponseDTO updateWorkflow(Long id, WorkflowRequestDTO requestDTO) {
+        log.info("Updating workflow with ID: {}", id);
+
+        Workflow workflow = workflowRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Workflow não encontrado"));
+
+        if (!workflow.getNome().equals(requestDTO.getNome()) && workflowRepository.existsByNome(requestDTO.getNome())) {
+            throw new RuntimeException("Já existe um workflow com este nome");
+        }
+
+        List<WorkflowNode> nodes = toNodes(requestDTO.getNodes());
+        validateNodes(nodes);
+
+        workflow.setNome(requestDTO.getNome());
+        workflow.setDescription(requestDTO.getDescription());
+        workflow.setNodes(nodes);
+
+        Workflow updatedWorkflow = workflowRepository.save(workflow);
+        log.info("Workflow updated successfully with ID: {}", updatedWorkflow.getId());
+
+        return mapToResponseDTO(updatedWorkflow);
+    }
+
+    @Transactional
+    public void deleteWorkflow(Long id) {
+        log.info("Deleting workflow with ID: {}", id);
+
+        if (!workflowRepository.existsById(id)) {
+            throw new RuntimeException("Workflow não encontrado");
+        }
+
+        workflowRepository.deleteById(id);
+        log.info("Workflow deleted successfully with ID: {}", id);
+    }
+
+    private void validateNodes(List<WorkflowNode> nodes) {
+        WorkflowGraph.topologicalOrder(nodes);
+
+        for (WorkflowNode node : nodes) {
+            if (!requestRepository.existsById(node.getRequestId())) {
+                throw new RuntimeException("Request não encontrada para o nó " + node.getKey() + ": " + node.getRequestId());
+            }
+            if (node.getInputs() == null) {
+                continue;
+            }
+            List<String> dependsOn = WorkflowGraph.dependenciesOf(node);
+            node.getInputs().forEach((variable, source) -> {
+                String sourceKey = source.split("[.\\[]", 2)[0];
+                if (!dependsOn.contains(sourceKey)) {
+                    throw new RuntimeException("O input " + variable + " do nó " + node.getKey()
+                            + " usa o nó " + sourceKey + ", que não está em dependsOn");
+                }
+            });
+        }
+    }
+
+    private List<WorkflowNode> toNodes(List<WorkflowNodeDTO> nodes) {
+        return nodes.stream()
+                .map(node -> WorkflowNode.builder()
+                        .key(node.getKey())
+                        .requestId(node.getRequestId())
+                        .dependsOn(node.getDependsOn())
+                        .inputs(node.getInputs())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private WorkflowResponseDTO mapToResponseDTO(Workflow workflow) {
+        return WorkflowResponseDTO.builder()
+                .id(workflow.getId())
+                .nome(workflow.getNome())
+                .description(workflow.getDescription())
+                .nodes(workflow.getNodes().stream()
+                        .map(node -> WorkflowNodeDTO.builder()
+                                .key(node.getKey())
+                                .requestId(node.getRequestId())
+                                .dependsOn(node.getDependsOn())
+                                .inputs(node.getInputs())
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(workflow.getCreatedAt())
+                .updatedAt(workflow.getUpdatedAt())
+                .build();
+    }
+}
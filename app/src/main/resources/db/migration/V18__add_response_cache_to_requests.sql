@@ -0,0 +1,8 @@
+-- Adiciona colunas de cache de response na tabela requests
+ALTER TABLE requests
+ADD COLUMN cache_enabled BOOLEAN NOT NULL DEFAULT FALSE,
+ADD COLUMN cache_ttl_seconds INTEGER;
+
+-- Comentários
+COMMENT ON COLUMN requests.cache_enabled IS 'Habilita o cache de response (apenas requests GET)';
+COMMENT ON COLUMN requests.cache_ttl_seconds IS 'Tempo de vida do response em cache, em segundos (nulo usa o padrão da aplicação)';
@@ -0,0 +1,12 @@
+-- Adiciona configurações do cliente HTTP na tabela integrations
+ALTER TABLE integrations
+ADD COLUMN http_version VARCHAR(20),
+ADD COLUMN connect_timeout_ms INTEGER,
+ADD COLUMN read_timeout_ms INTEGER,
+ADD COLUMN executor_threads INTEGER;
+
+-- Comentários
+COMMENT ON COLUMN integrations.http_version IS 'Versão HTTP preferida (HTTP_1_1 ou HTTP_2); nulo usa o padrão da aplicação';
+COMMENT ON COLUMN integrations.connect_timeout_ms IS 'Timeout de conexão em milissegundos; nulo usa o padrão da aplicação';
+COMMENT ON COLUMN integrations.read_timeout_ms IS 'Timeout de resposta em milissegundos; nulo usa o padrão da aplicação';
+COMMENT ON COLUMN integrations.executor_threads IS 'Threads do executor exclusivo do cliente HTTP da integração; nulo usa o padrão da aplicação';
@@ -0,0 +1,19 @@
+-- Adiciona política de retry na tabela integrations
+ALTER TABLE integrations
+ADD COLUMN retry_max_attempts INTEGER,
+ADD COLUMN retry_base_delay_ms INTEGER,
+ADD COLUMN retry_max_delay_ms INTEGER,
+ADD COLUMN retry_status_codes VARCHAR(100);
+
+-- Adiciona sobrescrita da política de retry na tabela requests
+ALTER TABLE requests
+ADD COLUMN retry_max_attempts INTEGER,
+ADD COLUMN retry_non_idempotent BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Comentários
+COMMENT ON COLUMN integrations.retry_max_attempts IS 'Máximo de tentativas por chamada (1 desativa o retry); nulo usa o padrão da aplicação';
+COMMENT ON COLUMN integrations.retry_base_delay_ms IS 'Espera base do backoff exponencial em milissegundos; nulo usa o padrão da aplicação';
+COMMENT ON COLUMN integrations.retry_max_delay_ms IS 'Espera máxima entre tentativas em milissegundos; nulo usa o padrão da aplicação';
+COMMENT ON COLUMN integrations.retry_status_codes IS 'Status HTTP que geram nova tentativa, separados por vírgula; nulo usa o padrão da aplicação';
+COMMENT ON COLUMN requests.retry_max_attempts IS 'Sobrescreve o máximo de tentativas da integração para esta request';
+COMMENT ON COLUMN requests.retry_non_idempotent IS 'Permite retry em métodos não idempotentes (POST/PATCH)';
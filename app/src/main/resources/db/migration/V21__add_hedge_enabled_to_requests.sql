@@ -0,0 +1,6 @@
+-- Adiciona coluna hedge_enabled na tabela requests
+ALTER TABLE requests
+ADD COLUMN hedge_enabled BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Comentário
+COMMENT ON COLUMN requests.hedge_enabled IS 'Dispara uma segunda tentativa quando a primeira demora mais que o percentil recente (apenas GET/HEAD)';
@@ -0,0 +1,50 @@
+-- Criação da tabela de histórico de execuções de requests (particionada por dia)
+CREATE TABLE request_executions (
+    id BIGSERIAL,
+    request_id BIGINT NOT NULL,
+    integration_id BIGINT,
+    http_method VARCHAR(20),
+    status_code INTEGER NOT NULL,
+    success BOOLEAN NOT NULL,
+    latency_ms BIGINT NOT NULL,
+    attempts INTEGER,
+    request_size INTEGER,
+    response_size BIGINT,
+    cache_status VARCHAR(20),
+    error_message VARCHAR(1000),
+    executed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, executed_at)
+) PARTITION BY RANGE (executed_at);
+
+-- Índices (criados em cada partição)
+CREATE INDEX idx_request_execution_request_id ON request_executions(request_id, executed_at);
+CREATE INDEX idx_request_execution_integration_id ON request_executions(integration_id, executed_at);
+
+-- Cria (se não existir) a partição de um dia: request_executions_YYYYMMDD
+CREATE OR REPLACE FUNCTION create_request_executions_partition(partition_day DATE)
+RETURNS VOID AS $$
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF request_executions FOR VALUES FROM (%L) TO (%L)',
+        'request_executions_' || to_char(partition_day, 'YYYYMMDD'),
+        partition_day,
+        partition_day + 1
+    );
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições iniciais
+SELECT create_request_executions_partition(CURRENT_DATE);
+SELECT create_request_executions_partition(CURRENT_DATE + 1);
+
+-- Comentários
+COMMENT ON TABLE request_executions IS 'Histórico de execuções de requests, particionado por dia';
+COMMENT ON COLUMN request_executions.request_id IS 'ID da request executada (sem FK: o histórico sobrevive à exclusão da request)';
+COMMENT ON COLUMN request_executions.integration_id IS 'ID da integração da request no momento da execução';
+COMMENT ON COLUMN request_executions.status_code IS 'Status HTTP retornado (0 quando não houve resposta)';
+COMMENT ON COLUMN request_executions.latency_ms IS 'Tempo total da execução em milissegundos';
+COMMENT ON COLUMN request_executions.attempts IS 'Quantidade de tentativas enviadas ao destino';
+COMMENT ON COLUMN request_executions.request_size IS 'Tamanho do body enviado';
+COMMENT ON COLUMN request_executions.response_size IS 'Tamanho do body recebido';
+COMMENT ON COLUMN request_executions.cache_status IS 'Resultado do cache de response (HIT, MISS, REVALIDATED, BYPASS)';
+COMMENT ON COLUMN request_executions.executed_at IS 'Data/hora da execução';
@@ -0,0 +1,16 @@
+-- Criação da tabela de workflows (encadeamento de requests)
+CREATE TABLE workflows (
+    id BIGSERIAL PRIMARY KEY,
+    nome VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(500),
+    nodes JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Comentários
+COMMENT ON TABLE workflows IS 'Workflows: grafo (DAG) de requests executado em uma única chamada';
+COMMENT ON COLUMN workflows.id IS 'Identificador único do workflow';
+COMMENT ON COLUMN workflows.nome IS 'Nome do workflow';
+COMMENT ON COLUMN workflows.description IS 'Descrição do workflow';
+COMMENT ON COLUMN workflows.nodes IS 'Nós do workflow (key, requestId, dependsOn, inputs)';
@@ -0,0 +1,6 @@
+-- Adiciona coluna response_schema na tabela requests
+ALTER TABLE requests
+ADD COLUMN response_schema JSONB;
+
+-- Comentário
+COMMENT ON COLUMN requests.response_schema IS 'Schema acumulado dos responses observados com registerTest: tipos, frequência de presença e tamanhos por campo';
@@ -0,0 +1,31 @@
+-- Criação da tabela de verificações sintéticas agendadas (probes de requests)
+CREATE TABLE request_checks (
+    id BIGSERIAL PRIMARY KEY,
+    request_id BIGINT NOT NULL UNIQUE,
+    interval_seconds INTEGER,
+    cron_expression VARCHAR(120),
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    next_run_at TIMESTAMP NOT NULL,
+    last_run_at TIMESTAMP,
+    last_status_code INTEGER,
+    last_success BOOLEAN,
+    last_latency_ms BIGINT,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_request_check_request FOREIGN KEY (request_id) REFERENCES requests(id) ON DELETE CASCADE,
+    CONSTRAINT ck_request_check_schedule CHECK ((interval_seconds IS NULL) <> (cron_expression IS NULL))
+);
+
+-- Índice usado pela busca de verificações vencidas
+CREATE INDEX idx_request_check_next_run ON request_checks(next_run_at) WHERE enabled;
+
+-- Comentários
+COMMENT ON TABLE request_checks IS 'Requests executadas periodicamente como verificação de saúde das integrações';
+COMMENT ON COLUMN request_checks.request_id IS 'Request executada pela verificação';
+COMMENT ON COLUMN request_checks.interval_seconds IS 'Intervalo entre execuções em segundos (exclusivo com cron_expression)';
+COMMENT ON COLUMN request_checks.cron_expression IS 'Expressão cron do Spring (exclusivo com interval_seconds)';
+COMMENT ON COLUMN request_checks.next_run_at IS 'Próxima execução; avançada na mesma transação que reivindica a verificação';
+COMMENT ON COLUMN request_checks.last_run_at IS 'Data/hora da última execução';
+COMMENT ON COLUMN request_checks.last_status_code IS 'Status HTTP da última execução (0 quando não houve resposta)';
+COMMENT ON COLUMN request_checks.last_latency_ms IS 'Tempo da última execução em milissegundos';
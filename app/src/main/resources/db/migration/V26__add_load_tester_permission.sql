@@ -0,0 +1,3 @@
+-- Adiciona a permissão load-tester (testes de carga de requests)
+INSERT INTO permissions (name, description, created_at, updated_at) 
+VALUES ('load-tester', 'Permissão para executar testes de carga de requests', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
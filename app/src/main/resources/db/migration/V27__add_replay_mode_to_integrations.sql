@@ -0,0 +1,6 @@
+-- Adiciona coluna replay_mode na tabela integrations
+ALTER TABLE integrations
+ADD COLUMN replay_mode VARCHAR(20) NOT NULL DEFAULT 'OFF';
+
+-- Comentário
+COMMENT ON COLUMN integrations.replay_mode IS 'Gravação/reprodução de responses: OFF, RECORD (grava no disco local) ou REPLAY (responde com as gravações, sem rede)';
@@ -0,0 +1,6 @@
+-- Adiciona coluna max_response_bytes na tabela integrations
+ALTER TABLE integrations
+ADD COLUMN max_response_bytes BIGINT;
+
+-- Comentário
+COMMENT ON COLUMN integrations.max_response_bytes IS 'Tamanho máximo do response do destino; acima disso a conexão é abortada (nulo = padrão da aplicação)';
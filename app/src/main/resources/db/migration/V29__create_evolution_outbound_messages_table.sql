@@ -0,0 +1,33 @@
+-- Criação da tabela de mensagens de saída do Evolution (outbox)
+CREATE TABLE evolution_outbound_messages (
+    id BIGSERIAL PRIMARY KEY,
+    evolution_instance_id BIGINT NOT NULL,
+    message_type VARCHAR(20) NOT NULL,
+    number VARCHAR(50) NOT NULL,
+    message TEXT,
+    payload JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    evolution_message_id VARCHAR(255),
+    evolution_status VARCHAR(50),
+    sent_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_evolution_outbound_message_instance FOREIGN KEY (evolution_instance_id) REFERENCES evolution_instances(id) ON DELETE CASCADE
+);
+
+-- Índice usado pela busca de mensagens a despachar (pendentes ou com lease expirado)
+CREATE INDEX idx_evolution_outbound_message_due ON evolution_outbound_messages(next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
+CREATE INDEX idx_evolution_outbound_message_instance ON evolution_outbound_messages(evolution_instance_id);
+
+-- Comentários
+COMMENT ON TABLE evolution_outbound_messages IS 'Fila persistente de mensagens a enviar pelo Evolution, despachadas em background';
+COMMENT ON COLUMN evolution_outbound_messages.message_type IS 'Tipo da mensagem: TEXT, MEDIA, AUDIO ou STICKER';
+COMMENT ON COLUMN evolution_outbound_messages.message IS 'Resumo da mensagem (texto, ou tipo de mídia e arquivo)';
+COMMENT ON COLUMN evolution_outbound_messages.payload IS 'Request enviado ao Evolution, já no formato da integração';
+COMMENT ON COLUMN evolution_outbound_messages.status IS 'PENDING, SENDING (reivindicada por uma réplica), SENT ou FAILED';
+COMMENT ON COLUMN evolution_outbound_messages.next_attempt_at IS 'Próxima tentativa; em SENDING é o fim do lease, após o qual a mensagem volta a ser reivindicável';
+COMMENT ON COLUMN evolution_outbound_messages.evolution_message_id IS 'ID da mensagem retornado pelo Evolution';
@@ -0,0 +1,12 @@
+-- Adiciona o envio em massa (broadcast) à fila de saída do Evolution
+ALTER TABLE evolution_outbound_messages
+ADD COLUMN broadcast_id UUID,
+ADD COLUMN broadcast_index INTEGER;
+
+-- Índice usado pelo acompanhamento do broadcast (progresso e resultados por destinatário)
+CREATE INDEX idx_evolution_outbound_message_broadcast ON evolution_outbound_messages(broadcast_id, broadcast_index)
+    WHERE broadcast_id IS NOT NULL;
+
+-- Comentários
+COMMENT ON COLUMN evolution_outbound_messages.broadcast_id IS 'Envio em massa ao qual a mensagem pertence (nulo = mensagem avulsa)';
+COMMENT ON COLUMN evolution_outbound_messages.broadcast_index IS 'Posição do destinatário na lista do envio em massa';